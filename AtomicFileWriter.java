@@ -0,0 +1,220 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Клас AtomicFileWriter записує файл через тимчасовий файл з атомарною заміною цілі.
+ *
+ * <p>Дані накопичуються в багаторазовому прямому буфері ByteBuffer і скидаються
+ * великими блоками через FileChannel. Цифри чисел форматуються одразу в байти —
+ * без Integer.toString() і проміжних рядків. Лише після {@link #commit()}
+ * тимчасовий файл синхронізується з диском і перейменовується поверх цільового,
+ * тому збій посеред запису ніколи не залишає напівзаписаний файл.</p>
+ *
+ * <p>Тимчасовий файл отримує права цільового файлу, якщо той уже існує, інакше —
+ * звичайні права нового файлу (з урахуванням umask), тож заміна не змінює доступу до цілі.
+ * Якщо {@link #close()} викликано без {@link #commit()}, тимчасовий файл видаляється.</p>
+ */
+final class AtomicFileWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 20;
+    // найдовше число long зі знаком: 20 символів
+    private static final int MAX_NUMBER_LENGTH = 20;
+
+    private final Path targetPath;
+    private final Path temporaryPath;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final byte[] digits = new byte[MAX_NUMBER_LENGTH];
+    private boolean committed;
+
+    /**
+     * Конструктор, який створює тимчасовий файл поруч із цільовим.
+     *
+     * @param filePath Шлях до цільового файлу
+     * @throws IOException якщо тимчасовий файл неможливо створити
+     */
+    AtomicFileWriter(String filePath) throws IOException {
+        this.targetPath = Path.of(filePath).toAbsolutePath();
+        this.temporaryPath = createTemporaryFile(targetPath);
+        try {
+            copyPermissions(targetPath, temporaryPath);
+            this.channel = FileChannel.open(temporaryPath, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporaryPath);
+            throw e;
+        }
+    }
+
+    /**
+     * Створює тимчасовий файл поруч із цільовим. На відміну від {@code Files.createTempFile},
+     * який завжди дає права 0600, {@code Files.createFile} застосовує звичайний umask.
+     */
+    private static Path createTemporaryFile(Path targetPath) throws IOException {
+        String prefix = targetPath.getFileName().toString() + ".";
+        while (true) {
+            Path candidate = targetPath.resolveSibling(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+            try {
+                return Files.createFile(candidate);
+            } catch (FileAlreadyExistsException e) {
+                // ім'я зайняте іншим записом — пробуємо інше
+            }
+        }
+    }
+
+    private static void copyPermissions(Path targetPath, Path temporaryPath) throws IOException {
+        PosixFileAttributeView targetView = Files.getFileAttributeView(targetPath, PosixFileAttributeView.class);
+        if (targetView == null || !Files.exists(targetPath)) {
+            return;
+        }
+        Files.getFileAttributeView(temporaryPath, PosixFileAttributeView.class)
+            .setPermissions(targetView.readAttributes().permissions());
+    }
+
+    /**
+     * Записує десяткове представлення числа та переведення рядка.
+     *
+     * @param value Значення
+     * @throws IOException якщо запис не вдався
+     */
+    void writeLine(long value) throws IOException {
+        ensureRemaining(MAX_NUMBER_LENGTH + 1);
+        int position = digits.length;
+        // працюємо з від'ємним значенням, щоб коректно обробити Long.MIN_VALUE
+        long remainder = value < 0 ? value : -value;
+        do {
+            digits[--position] = (byte) ('0' - remainder % 10);
+            remainder /= 10;
+        } while (remainder != 0);
+        if (value < 0) {
+            digits[--position] = '-';
+        }
+        buffer.put(digits, position, digits.length - position);
+        buffer.put((byte) '\n');
+    }
+
+    void writeInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) throws IOException {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    void writeShort(short value) throws IOException {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort(value);
+    }
+
+    void writeByte(byte value) throws IOException {
+        ensureRemaining(Byte.BYTES);
+        buffer.put(value);
+    }
+
+    void writeChar(char value) throws IOException {
+        ensureRemaining(Character.BYTES);
+        buffer.putChar(value);
+    }
+
+    void writeFloat(float value) throws IOException {
+        ensureRemaining(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value) throws IOException {
+        ensureRemaining(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    /**
+     * Записує масив байтів у поточну позицію.
+     *
+     * @param bytes Дані
+     * @throws IOException якщо запис не вдався
+     */
+    void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureRemaining(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    /**
+     * Записує блок байтів за абсолютною позицією (наприклад, заголовок, відомий лише наприкінці).
+     *
+     * @param block Дані для запису
+     * @param position Позиція у файлі
+     * @throws IOException якщо запис не вдався
+     */
+    void writeAt(ByteBuffer block, long position) throws IOException {
+        flush();
+        while (block.hasRemaining()) {
+            position += channel.write(block, position);
+        }
+    }
+
+    /**
+     * Пропускає задану кількість байтів (місце під заголовок) на початку файлу.
+     *
+     * @param length Кількість байтів
+     * @throws IOException якщо запис не вдався
+     */
+    void reserve(int length) throws IOException {
+        ensureRemaining(length);
+        for (int i = 0; i < length; i++) {
+            buffer.put((byte) 0);
+        }
+    }
+
+    /**
+     * Скидає буфер, синхронізує файл з диском і атомарно замінює ним цільовий файл.
+     *
+     * @throws IOException якщо запис або перейменування не вдалися
+     */
+    void commit() throws IOException {
+        flush();
+        channel.force(true);
+        channel.close();
+        try {
+            Files.move(temporaryPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException notSupported) {
+            Files.move(temporaryPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        committed = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!committed) {
+            channel.close();
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private void ensureRemaining(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
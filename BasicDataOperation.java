@@ -1,9 +1,24 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
+import java.util.OptionalInt;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних.
@@ -27,28 +42,70 @@ import java.util.Queue;
  * java BasicDataOperation "2024-03-16T00:12:38Z" queue  
  * java BasicDataOperation "2024-03-16T00:12:38Z" set
  * java BasicDataOperation "2024-03-16T00:12:38Z" all
+ * java BasicDataOperation 2147483647 --concurrent
+ * java BasicDataOperation --batch probes.data --positions
+ * java BasicDataOperation --serve 7070
+ * java BasicDataOperation --incremental 1000
  * }
  * </pre>
  */
 public class BasicDataOperation {
-    static final String PATH_TO_DATA_FILE = "list/Integer.data";
+    static final String DATA_DIRECTORY = "list/";
+    static final String PATH_TO_DATA_FILE = DATA_DIRECTORY + "Integer.data";
+    static final String TYPES_MODE = "--types";
+    static final String BATCH_MODE = "--batch";
+    static final String POSITIONS_OPTION = "--positions";
+    static final String HASH_OPTION = "--hash";
+    static final String MERGE_OPTION = "--merge";
+    static final String BATCH_RESULT_SUFFIX = ".result";
+    // ім'я файлу запитів, що означає стандартне введення
+    static final String STANDARD_INPUT = "-";
+    static final String CONCURRENT_OPTION = "--concurrent";
+    static final String SERVE_MODE = "--serve";
+    static final String INCREMENTAL_MODE = "--incremental";
+    static final long DEFAULT_POLL_INTERVAL_MILLIS = 1000;
 
     Integer dateTimeValueToSearch;
+    int[] intArray;
     Integer[] integerArray;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> \n" +
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <пошукове-значення> [" + CONCURRENT_OPTION + "]\n" +
+"       java BasicDataOperation " + TYPES_MODE + "\n" +
+"       java BasicDataOperation " + BATCH_MODE + " <файл-запитів|-> [файл-результатів] [" + POSITIONS_OPTION + "] [" + HASH_OPTION + "|" + MERGE_OPTION + "]\n" +
+"       java BasicDataOperation " + SERVE_MODE + " [порт|-]\n" +
+"       java BasicDataOperation " + INCREMENTAL_MODE + " [інтервал-мс] [кількість-опитувань]\n" +
 "Приклад:\n" +
 "  java BasicDataOperation \"2025-01-02T20:42:25Z\"";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length >= 2 && BATCH_MODE.equals(args[0])) {
+            new BasicDataOperation().executeBatchQuery(args);
+            return;
+        }
+
+        if (args.length >= 1 && args.length <= 2 && SERVE_MODE.equals(args[0])) {
+            new BasicDataOperation().executeServer(args);
+            return;
+        }
+
+        if (args.length >= 1 && args.length <= 3 && INCREMENTAL_MODE.equals(args[0])) {
+            executeIncremental(args);
+            return;
+        }
+
+        if (args.length != 1 && !(args.length == 2 && CONCURRENT_OPTION.equals(args[1]))) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
 
         String searchValue = args[0];
 
+        if (TYPES_MODE.equals(searchValue)) {
+            analyseTypedDataFiles();
+            return;
+        }
+
         // Валідація введеного значення дати
         try {
             Integer.parseInt(searchValue);
@@ -74,15 +131,249 @@ public class BasicDataOperation {
         
         // Підготовка даних та перевірка формату
         dateTimeValueToSearch = Integer.parseInt(args[0]);
-        integerArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+        intArray = loadData();
+        integerArray = DataFileHandler.boxArray(intArray);
         
-        runAllOperations();
+        if (args.length > 1 && CONCURRENT_OPTION.equals(args[1])) {
+            runAllOperationsConcurrently();
+        } else {
+            runAllOperations();
+        }
+        PerformanceTracker.printMetricsReport();
 
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
         System.out.println(SEPARATOR);
     }
 
+    /**
+     * Перевіряє пакет значень з файлу (або стандартного введення) за один запуск.
+     *
+     * <p>Набір даних завантажується і сортується один раз, тож вартість одного запиту
+     * амортизується по всьому пакету. Для кожного запиту в файл результатів пишеться
+     * рядок: позиція у відсортованих даних (або -1) з {@value #POSITIONS_OPTION},
+     * інакше 1/0.</p>
+     *
+     * @param args Аргументи командного рядка
+     */
+    private void executeBatchQuery(String[] args) {
+        String probeSource = args[1];
+        String resultPath = STANDARD_INPUT.equals(probeSource) ? "batch" + BATCH_RESULT_SUFFIX : probeSource + BATCH_RESULT_SUFFIX;
+        boolean withPositions = false;
+        BatchMembershipQuery.Strategy strategy = BatchMembershipQuery.Strategy.AUTO;
+        for (int i = 2; i < args.length; i++) {
+            if (POSITIONS_OPTION.equals(args[i])) {
+                withPositions = true;
+            } else if (HASH_OPTION.equals(args[i])) {
+                strategy = BatchMembershipQuery.Strategy.HASH_PROBE;
+            } else if (MERGE_OPTION.equals(args[i])) {
+                strategy = BatchMembershipQuery.Strategy.MERGE_JOIN;
+            } else {
+                resultPath = args[i];
+            }
+        }
+
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 ПАКЕТНА ПЕРЕВІРКА НАЯВНОСТІ ЗНАЧЕНЬ 🚀");
+        System.out.println(SEPARATOR);
+
+        try {
+            long timeStart = PerformanceTracker.startOperation();
+            int[] probes;
+            if (STANDARD_INPUT.equals(probeSource)) {
+                probes = DataFileHandler.loadIntArrayFromStream(System.in, 0);
+            } else {
+                probes = DataFileHandler.loadIntArrayFromFileParallel(probeSource);
+            }
+            PerformanceTracker.displayOperationTime(timeStart, "завантаження " + probes.length + " запитів");
+
+            intArray = loadData();
+
+            timeStart = PerformanceTracker.startOperation();
+            BatchMembershipQuery batchQuery = new BatchMembershipQuery(intArray);
+            PerformanceTracker.displayOperationTime(timeStart, "підготовка набору з " + batchQuery.size() + " значень");
+
+            timeStart = PerformanceTracker.startOperation();
+            BatchMembershipQuery.Result result = batchQuery.query(probes, strategy, withPositions);
+            long elapsed = System.nanoTime() - timeStart;
+            PerformanceTracker.displayOperationTime(timeStart, "пакетна перевірка", "стратегія " + result.getStrategy()
+                + ", " + (probes.length == 0 ? 0 : elapsed / probes.length) + " нс на запит");
+            System.out.println("Знайдено " + result.getFoundCount() + " з " + result.getProbeCount() + " запитів");
+
+            timeStart = PerformanceTracker.startOperation();
+            result.writeToFile(resultPath);
+            PerformanceTracker.displayOperationTime(timeStart, "запис результатів у " + resultPath);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ Помилка пакетної перевірки: " + e.getMessage());
+            e.printStackTrace();
+        }
+        PerformanceTracker.printMetricsReport();
+    }
+
+    /**
+     * Запускає резидентний сервер запитів {@link DataQueryServer}.
+     *
+     * <p>Дані завантажуються й індексуються один раз, далі запити обслуговуються без
+     * повторного запуску. З портом сервер слухає loopback-адресу до зупинки процесу
+     * (підсумок затримок виводиться при завершенні); з {@value #STANDARD_INPUT} команди
+     * читаються зі стандартного введення, а службові повідомлення йдуть у stderr, щоб не
+     * змішуватися з відповідями.</p>
+     *
+     * @param args Аргументи командного рядка
+     */
+    private void executeServer(String[] args) {
+        String endpoint = args.length > 1 ? args[1] : STANDARD_INPUT;
+        boolean standardStreams = STANDARD_INPUT.equals(endpoint);
+        PrintStream protocolOutput = System.out;
+        if (standardStreams) {
+            System.setOut(System.err);
+        }
+
+        try {
+            intArray = loadData();
+
+            long timeStart = PerformanceTracker.startOperation();
+            DataQueryServer server = new DataQueryServer(intArray);
+            PerformanceTracker.displayOperationTime(timeStart, "побудова індексів сервера з " + server.size() + " значень");
+
+            if (standardStreams) {
+                server.serve(new InputStreamReader(System.in, StandardCharsets.UTF_8),
+                    new OutputStreamWriter(protocolOutput, StandardCharsets.UTF_8));
+                System.out.println(server.summary());
+            } else {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(server.summary())));
+                server.serveSocket(Integer.parseInt(endpoint));
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ Помилка сервера запитів: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            System.setOut(protocolOutput);
+        }
+    }
+
+    /**
+     * Стежить за {@value #PATH_TO_DATA_FILE} і журналом змін, застосовуючи лише нові рядки.
+     *
+     * <p>Замість повторного завантаження, сортування і перебудови колекцій кожне опитування
+     * дочитує хвости файлів і застосовує зміни до {@link IncrementalIntDataset}, тож його
+     * вартість пропорційна розміру змін. Коли незлитих змін стає забагато (і наприкінці
+     * роботи), набір ущільнюється й файл .sorted переписується. Без кількості опитувань
+     * стеження триває до зупинки процесу.</p>
+     *
+     * @param args Аргументи командного рядка
+     */
+    private static void executeIncremental(String[] args) {
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 ІНКРЕМЕНТАЛЬНЕ ОНОВЛЕННЯ ДАНИХ Integer 🚀");
+        System.out.println(SEPARATOR);
+
+        try {
+            long pollIntervalMillis = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_POLL_INTERVAL_MILLIS;
+            long pollCount = args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE;
+            IncrementalDataFeed feed = new IncrementalDataFeed(PATH_TO_DATA_FILE);
+
+            long timeStart = PerformanceTracker.startOperation();
+            feed.open();
+            PerformanceTracker.displayOperationTime(timeStart, "відкриття набору з " + feed.dataset().size() + " значень",
+                feed.isRestoredFromCheckpoint() ? "база з контрольної точки" : "повне завантаження");
+            printIncrementalSummary(feed.dataset());
+
+            for (long poll = 0; poll < pollCount; poll++) {
+                Thread.sleep(pollIntervalMillis);
+                if (feed.hasNewInput()) {
+                    timeStart = PerformanceTracker.startOperation();
+                    int changes = feed.poll();
+                    PerformanceTracker.displayOperationTime(timeStart, "застосування " + changes + " змін",
+                        "незлитих змін " + feed.dataset().pendingChanges());
+                    printIncrementalSummary(feed.dataset());
+                }
+                if (feed.dataset().needsCompaction()) {
+                    compactIncremental(feed);
+                }
+            }
+            if (feed.dataset().pendingChanges() > 0) {
+                compactIncremental(feed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("❌ Стеження за змінами перервано");
+        } catch (IOException | RuntimeException e) {
+            System.out.println("❌ Помилка інкрементального оновлення: " + e.getMessage());
+            e.printStackTrace();
+        }
+        PerformanceTracker.printMetricsReport();
+    }
+
+    private static void compactIncremental(IncrementalDataFeed feed) throws IOException {
+        long timeStart = PerformanceTracker.startOperation();
+        int pendingChanges = feed.dataset().pendingChanges();
+        feed.compact();
+        PerformanceTracker.displayOperationTime(timeStart, "ущільнення і запис " + PATH_TO_DATA_FILE + IncrementalDataFeed.SORTED_SUFFIX,
+            "злито змін " + pendingChanges);
+    }
+
+    private static void printIncrementalSummary(IncrementalIntDataset dataset) {
+        if (dataset.isEmpty()) {
+            System.out.println("Набір даних порожній");
+            return;
+        }
+        System.out.println("Значень: " + dataset.size() + ", різних: " + dataset.distinctCount()
+            + ", мінімум: " + dataset.min() + ", максимум: " + dataset.max());
+    }
+
+    /**
+     * Аналізує всі файли даних, для яких зареєстровано парсер у {@link DataTypeRegistry}.
+     * Значення завантажуються у примітивні масиви без створення об'єкта на кожен елемент.
+     */
+    private static void analyseTypedDataFiles() {
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 АНАЛІЗ УСІХ ТИПІВ ФАЙЛІВ ДАНИХ 🚀");
+        System.out.println(SEPARATOR);
+
+        for (DataTypeRegistry.DataType<?> dataType : DataTypeRegistry.registeredTypes()) {
+            analyseTypedDataFile(dataType);
+        }
+    }
+
+    private static <A> void analyseTypedDataFile(DataTypeRegistry.DataType<A> dataType) {
+        String filePath = DATA_DIRECTORY + dataType.getFileName();
+        try {
+            long timeStart = PerformanceTracker.startOperation();
+            A values = DataFileHandler.loadTypedArrayFromFile(filePath, dataType);
+            PerformanceTracker.displayOperationTime(timeStart, "завантаження " + filePath);
+            System.out.println(dataType.getElementType().getSimpleName() + ": " + dataType.summarize(values));
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при аналізі " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Завантажує дані з двійкового колонкового файлу, якщо він актуальний,
+     * інакше — потоково з текстового файлу.
+     *
+     * @return Масив значень int
+     */
+    private int[] loadData() {
+        File textFile = new File(PATH_TO_DATA_FILE);
+        File columnFile = new File(PATH_TO_DATA_FILE + DataFileHandler.COLUMN_FILE_SUFFIX);
+
+        long timeStart = PerformanceTracker.startOperation();
+        if (columnFile.isFile() && columnFile.lastModified() >= textFile.lastModified()) {
+            try {
+                int[] loadedArray = DataFileHandler.mapColumnFile(columnFile.getPath()).toIntArray();
+                PerformanceTracker.displayOperationTime(timeStart, "завантаження " + loadedArray.length + " значень з двійкового файлу");
+                return loadedArray;
+            } catch (IOException | RuntimeException e) {
+                System.out.println("⚠️ Двійковий файл недоступний, використовується текстовий: " + e.getMessage());
+            }
+        }
+
+        int[] loadedArray = DataFileHandler.loadIntArrayFromFileParallel(PATH_TO_DATA_FILE);
+        PerformanceTracker.displayOperationTime(timeStart, "завантаження " + loadedArray.length + " значень int з файлу");
+        return loadedArray;
+    }
+
     /**
      * Запускає операції з колекцією List.
      * 
@@ -96,6 +387,12 @@ public class BasicDataOperation {
             // Створення екземпляру класу з передаванням даних
             BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(dateTimeValueToSearch, integerArray);
             listProcessor.executeDataOperations();
+
+            // Порівняння з примітивним IntVector на тих самих вихідних даних
+            System.out.println("\n" + "-".repeat(50));
+            BasicDataOperationUsingList intVectorProcessor = new BasicDataOperationUsingList(dateTimeValueToSearch,
+                DataFileHandler.boxArray(intArray), BasicDataOperationUsingList.ListImplementation.INT_VECTOR);
+            intVectorProcessor.executeDataOperations();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
             e.printStackTrace();
@@ -115,6 +412,12 @@ public class BasicDataOperation {
             // Створення екземпляру класу з передаванням даних
             BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(dateTimeValueToSearch, integerArray);
             queueProcessor.runDataProcessing();
+
+            // Порівняння з примітивною min-max купою на тих самих вихідних даних
+            System.out.println("\n" + "-".repeat(50));
+            BasicDataOperationUsingQueue heapProcessor = new BasicDataOperationUsingQueue(dateTimeValueToSearch,
+                DataFileHandler.boxArray(intArray), BasicDataOperationUsingQueue.QueueImplementation.MIN_MAX_HEAP);
+            heapProcessor.runDataProcessing();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
             e.printStackTrace();
@@ -134,6 +437,12 @@ public class BasicDataOperation {
             // Створення екземпляру класу з передаванням даних           
             BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(dateTimeValueToSearch, integerArray);
             setProcessor.executeDataAnalysis();
+
+            // Порівняння з примітивною множиною на тих самих вихідних даних
+            System.out.println("\n" + "-".repeat(50));
+            BasicDataOperationUsingSet intSetProcessor = new BasicDataOperationUsingSet(dateTimeValueToSearch,
+                DataFileHandler.boxArray(intArray), BasicDataOperationUsingSet.SetImplementation.INT_HASH_SET);
+            intSetProcessor.executeDataAnalysis();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
             e.printStackTrace();
@@ -159,5 +468,150 @@ public class BasicDataOperation {
         
         // Обробка Set
         runSetOperations();
+        System.out.println("\n" + "~".repeat(60) + "\n");
+
+        // Запити за рангом і діапазоном
+        runRangeIndexOperations();
+    }
+
+    /**
+     * Запускає аналізи List, Queue і Set паралельно, кожен на власній копії даних.
+     *
+     * <p>Послідовні аналізи сортують спільний {@code integerArray} на місці, тож Queue і Set
+     * отримують дані, вже впорядковані аналізом List. Тут кожен аналіз працює з окремою
+     * копією масиву (об'єкти Integer незмінні, тож достатньо копії масиву): List — з
+     * вихідною, Queue і Set — з відсортованою, тож результати збігаються з послідовним
+     * запуском. Примітивний {@code intArray} лише читається. Виведення кожного аналізу збирається
+     * окремо й друкується цілим блоком у фіксованому порядку. Усі аналізи пишуть однаковий
+     * файл .sorted через {@link AtomicFileWriter}, тому паралельний запис безпечний.</p>
+     *
+     * <p>Задачі живуть у межах методу: пул закривається в finally, а результати
+     * збираються через {@code invokeAll}, тож загальний час наближається до часу
+     * найповільнішого аналізу, а не до суми.</p>
+     */
+    private void runAllOperationsConcurrently() {
+        System.out.println("🎯 ПАРАЛЕЛЬНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        System.out.println("=".repeat(60));
+
+        List<Runnable> analyses = List.of(
+            () -> copyForAnalysis(false).runListOperations(),
+            () -> copyForAnalysis(true).runQueueOperations(),
+            () -> copyForAnalysis(true).runSetOperations());
+
+        PrintStream console = System.out;
+        PerThreadOutput output = new PerThreadOutput(console);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(analyses.size(),
+            runnable -> new Thread(runnable, "analysis-" + threadNumber.incrementAndGet()));
+        System.setOut(new PrintStream(output, true, stdoutCharset()));
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            List<byte[]> reports = new ArrayList<>();
+            for (Runnable analysis : analyses) {
+                reports.add(null);
+                int index = tasks.size();
+                tasks.add(() -> {
+                    output.beginCapture();
+                    long analysisStart = System.nanoTime();
+                    try {
+                        analysis.run();
+                        return System.nanoTime() - analysisStart;
+                    } finally {
+                        reports.set(index, output.endCapture());
+                    }
+                });
+            }
+
+            long timeStart = PerformanceTracker.startOperation();
+            List<Future<Long>> results = executor.invokeAll(tasks);
+            long totalAnalysisTime = 0;
+            for (Future<Long> result : results) {
+                totalAnalysisTime += result.get();
+            }
+            PerformanceTracker.displayOperationTime(timeStart, "паралельний аналіз List, Queue і Set",
+                "сума часу аналізів " + totalAnalysisTime + " нс");
+
+            for (byte[] report : reports) {
+                console.write(report, 0, report.length);
+                console.println("\n" + "~".repeat(60) + "\n");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            console.println("❌ Паралельний аналіз перервано");
+        } catch (ExecutionException e) {
+            console.println("❌ Помилка паралельного аналізу: " + e.getCause());
+            e.printStackTrace();
+        } finally {
+            executor.shutdownNow();
+            System.setOut(console);
+        }
+
+        // Запити за рангом і діапазоном
+        runRangeIndexOperations();
+    }
+
+    /**
+     * Створює координатор з власною копією масиву Integer для окремого аналізу.
+     *
+     * @param sorted Чи впорядкувати копію (як після аналізу List у послідовному запуску)
+     * @return Новий координатор з тими самими параметрами пошуку
+     */
+    private BasicDataOperation copyForAnalysis(boolean sorted) {
+        BasicDataOperation copy = new BasicDataOperation();
+        copy.dateTimeValueToSearch = dateTimeValueToSearch;
+        copy.intArray = intArray;
+        copy.integerArray = integerArray.clone();
+        if (sorted) {
+            IntSortEngine.fromSystemProperty().sort(copy.integerArray);
+        }
+        return copy;
+    }
+
+    /**
+     * Кодування, з яким JVM створює {@code System.out} (властивість sun.stdout.encoding).
+     */
+    private static Charset stdoutCharset() {
+        String encoding = System.getProperty("sun.stdout.encoding");
+        return encoding != null && Charset.isSupported(encoding) ? Charset.forName(encoding) : Charset.defaultCharset();
+    }
+
+    /**
+     * Будує індекс {@link SortedIntIndex} і виконує типові запити за рангом і діапазоном.
+     */
+    private void runRangeIndexOperations() {
+        System.out.println("📊 ЗАПИТИ ЗА РАНГОМ І ДІАПАЗОНОМ");
+        System.out.println("-".repeat(50));
+
+        try {
+            long timeStart = PerformanceTracker.startOperation();
+            SortedIntIndex rangeIndex = new SortedIntIndex(intArray);
+            PerformanceTracker.displayOperationTime(timeStart, "побудова індексу з " + rangeIndex.size() + " значень");
+
+            if (rangeIndex.size() == 0) {
+                System.out.println("Індекс порожній.");
+                return;
+            }
+
+            int value = dateTimeValueToSearch;
+            timeStart = PerformanceTracker.startOperation();
+            int rank = rangeIndex.rank(value);
+            int countUpToValue = rangeIndex.countInRange(rangeIndex.min(), value);
+            OptionalInt predecessor = rangeIndex.predecessor(value);
+            OptionalInt successor = rangeIndex.successor(value);
+            int median = rangeIndex.percentile(50);
+            int percentile90 = rangeIndex.percentile(90);
+            int percentile99 = rangeIndex.percentile(99);
+            PerformanceTracker.displayOperationTime(timeStart, "запити за рангом, діапазоном і перцентилями");
+
+            System.out.println("Ранг значення '" + value + "': " + rank);
+            System.out.println("Кількість значень у діапазоні [" + rangeIndex.min() + ", " + value + "]: " + countUpToValue);
+            System.out.println("Попередник: " + (predecessor.isPresent() ? predecessor.getAsInt() : "відсутній")
+                + ", наступник: " + (successor.isPresent() ? successor.getAsInt() : "відсутній"));
+            System.out.println("Медіана: " + median + ", p90: " + percentile90 + ", p99: " + percentile99);
+            System.out.println("Елемент з номером " + rank / 2 + ": " + rangeIndex.select(rank / 2));
+        } catch (Exception e) {
+            System.out.println("❌ Помилка при роботі з індексом: " + e.getMessage());
+            e.printStackTrace();
+        }
     }
 }
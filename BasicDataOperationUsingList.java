@@ -1,10 +1,12 @@
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Vector;
 
 /**
  * Клас BasicDataOperationUsingList реалізує операції з колекціями типу Vector для даних типу int.
  *
+ * <p>Режим {@link ListImplementation#INT_VECTOR} замінює {@code Vector<Integer>} на
+ * примітивний {@link IntVector}, щоб порівняти обидві реалізації на тих самих даних.</p>
+ *
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
@@ -14,13 +16,31 @@ import java.util.Vector;
  *   <li>{@link #sortList()} - Сортує колекцію Vector з цілих чисел.</li>
  *   <li>{@link #findInList()} - Пошук конкретного значення в списку.</li>
  *   <li>{@link #locateMinMaxInList()} - Пошук мінімального і максимального значення в списку.</li>
+ *   <li>{@link #sortIntVector()}, {@link #findInIntVector()}, {@link #locateMinMaxInIntVector()} - Ті самі операції для IntVector.</li>
  * </ul>
  */
 public class BasicDataOperationUsingList {
 
+    /**
+     * Реалізація списку, з якою працює процесор.
+     */
+    public enum ListImplementation {
+        VECTOR,
+        INT_VECTOR
+    }
+
     private int intValueToSearch;
     private Integer[] intArray;
-    private Vector<Integer> intList;
+    private TrackedList<Integer> intList;
+    private IntVector intVector;
+
+    // стан масиву: впорядкованість і кеш мін/макс (сортування мін/макс не змінює)
+    private boolean arraySorted;
+    private boolean arrayExtremesValid;
+    private int arrayMinValue;
+    private int arrayMaxValue;
+    private final ListImplementation listImplementation;
+    private IntSortEngine sortEngine = IntSortEngine.fromSystemProperty();
 
     /**
      * Конструктор, який ініціалізує об’єкт з даними.
@@ -29,9 +49,35 @@ public class BasicDataOperationUsingList {
      * @param intArray Масив цілих чисел
      */
     BasicDataOperationUsingList(int intValueToSearch, Integer[] intArray) {
+        this(intValueToSearch, intArray, ListImplementation.VECTOR);
+    }
+
+    /**
+     * Конструктор, який ініціалізує об’єкт з даними та обраною реалізацією списку.
+     *
+     * @param intValueToSearch Значення для пошуку
+     * @param intArray Масив цілих чисел
+     * @param listImplementation Реалізація списку
+     */
+    BasicDataOperationUsingList(int intValueToSearch, Integer[] intArray, ListImplementation listImplementation) {
         this.intValueToSearch = intValueToSearch;
         this.intArray = intArray;
-        this.intList = new Vector<>(Arrays.asList(intArray));
+        this.listImplementation = listImplementation;
+        if (listImplementation == ListImplementation.INT_VECTOR) {
+            this.intVector = IntVector.fromBoxed(intArray);
+        } else {
+            this.intList = new TrackedList<>(new Vector<>(Arrays.asList(intArray)));
+        }
+        this.arraySorted = isArraySorted();
+    }
+
+    /**
+     * Задає стратегію сортування масиву.
+     *
+     * @param strategy Стратегія сортування
+     */
+    void setSortStrategy(IntSortEngine.Strategy strategy) {
+        this.sortEngine = new IntSortEngine(strategy);
     }
 
     /**
@@ -44,14 +90,25 @@ public class BasicDataOperationUsingList {
      * - сортування масиву
      */
     public void executeDataOperations() {
+        System.out.println("Реалізація списку: " + listImplementation);
 
-        findInList();
-        locateMinMaxInList();
+        if (listImplementation == ListImplementation.INT_VECTOR) {
+            findInIntVector();
+            locateMinMaxInIntVector();
 
-        sortList();
+            sortIntVector();
 
-        findInList();
-        locateMinMaxInList();
+            findInIntVector();
+            locateMinMaxInIntVector();
+        } else {
+            findInList();
+            locateMinMaxInList();
+
+            sortList();
+
+            findInList();
+            locateMinMaxInList();
+        }
 
         findInArray();
         locateMinMaxInArray();
@@ -66,23 +123,28 @@ public class BasicDataOperationUsingList {
     }
 
     /**
-     * Упорядковує масив цілих чисел за зростанням.
+     * Упорядковує масив цілих чисел за зростанням через {@link IntSortEngine}.
      */
     void performArraySorting() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        Arrays.sort(intArray);
+        String sortDetails = "масив вже впорядкований";
+        if (!arraySorted) {
+            sortDetails = "стратегія " + sortEngine.sort(intArray);
+            arraySorted = true;
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву цілих чисел");
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву цілих чисел", sortDetails);
     }
 
     /**
      * Здійснює пошук значення в масиві цілих чисел.
+     * Двійковий пошук виконується лише для впорядкованого масиву, інакше — лінійний.
      */
     void findInArray() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        int position = Arrays.binarySearch(this.intArray, intValueToSearch);
+        int position = arraySorted ? Arrays.binarySearch(this.intArray, intValueToSearch) : linearSearchInArray(intValueToSearch);
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масиві цілих чисел");
 
@@ -102,18 +164,29 @@ public class BasicDataOperationUsingList {
             return;
         }
 
-        long timeStart = System.nanoTime();
-
-        int minValue = intArray[0];
-        int maxValue = intArray[0];
+        long timeStart = PerformanceTracker.startOperation();
 
-        for (int currentValue : intArray) {
-            if (currentValue < minValue) {
-                minValue = currentValue;
-            }
-            if (currentValue > maxValue) {
-                maxValue = currentValue;
+        int minValue;
+        int maxValue;
+        if (arraySorted) {
+            minValue = intArray[0];
+            maxValue = intArray[intArray.length - 1];
+        } else {
+            if (!arrayExtremesValid) {
+                arrayMinValue = intArray[0];
+                arrayMaxValue = intArray[0];
+                for (int currentValue : intArray) {
+                    if (currentValue < arrayMinValue) {
+                        arrayMinValue = currentValue;
+                    }
+                    if (currentValue > arrayMaxValue) {
+                        arrayMaxValue = currentValue;
+                    }
+                }
+                arrayExtremesValid = true;
             }
+            minValue = arrayMinValue;
+            maxValue = arrayMaxValue;
         }
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мінімального і максимального значення в масиві");
@@ -124,11 +197,12 @@ public class BasicDataOperationUsingList {
 
     /**
      * Пошук значення у списку Vector цілих чисел.
+     * Обгортка TrackedList обирає двійковий пошук лише для впорядкованого списку.
      */
     void findInList() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        int position = Collections.binarySearch(this.intList, intValueToSearch);
+        int position = intList.find(intValueToSearch);
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в списку Vector");
 
@@ -148,10 +222,10 @@ public class BasicDataOperationUsingList {
             return;
         }
 
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        int minValue = Collections.min(intList);
-        int maxValue = Collections.max(intList);
+        int minValue = intList.min();
+        int maxValue = intList.max();
 
         PerformanceTracker.displayOperationTime(timeStart, "визначення мінімального і максимального значення в Vector");
 
@@ -163,10 +237,76 @@ public class BasicDataOperationUsingList {
      * Упорядковує список Vector з цілих чисел.
      */
     void sortList() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        Collections.sort(intList);
+        intList.sort();
 
         PerformanceTracker.displayOperationTime(timeStart, "упорядкування Vector цілих чисел");
     }
+
+    /**
+     * Пошук значення у примітивному списку IntVector (двійковий лише для впорядкованих даних).
+     */
+    void findInIntVector() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        int position = intVector.find(intValueToSearch);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в списку IntVector");
+
+        if (position >= 0) {
+            System.out.println("Елемент '" + intValueToSearch + "' знайдено в IntVector за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + intValueToSearch + "' відсутній у IntVector.");
+        }
+    }
+
+    /**
+     * Визначає мінімальне та максимальне значення у примітивному списку IntVector.
+     */
+    void locateMinMaxInIntVector() {
+        if (intVector == null || intVector.isEmpty()) {
+            System.out.println("Список IntVector порожній або не ініціалізований.");
+            return;
+        }
+
+        long timeStart = PerformanceTracker.startOperation();
+
+        int minValue = intVector.min();
+        int maxValue = intVector.max();
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мінімального і максимального значення в IntVector");
+
+        System.out.println("Мінімальне значення в IntVector: " + minValue);
+        System.out.println("Максимальне значення в IntVector: " + maxValue);
+    }
+
+    /**
+     * Упорядковує примітивний список IntVector.
+     */
+    void sortIntVector() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        intVector.sort();
+
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування IntVector цілих чисел");
+    }
+
+    private int linearSearchInArray(int value) {
+        for (int i = 0; i < intArray.length; i++) {
+            if (intArray[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isArraySorted() {
+        for (int i = 1; i < intArray.length; i++) {
+            if (intArray[i - 1] > intArray[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,10 +1,16 @@
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Hashtable;
-import java.util.List;
 import java.util.Map;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 
 /**
@@ -21,6 +27,34 @@ import java.util.LinkedHashMap;
  *   <li>{@link #sortByKey()} - Сортує Map за ключами.</li>
  *   <li>{@link #sortByValue()} - Сортує Map за значеннями.</li>
  * </ul>
+ * 
+ * <p>Обидві мапи обгорнуті у {@link ValueIndexedMap}, тому пошук і видалення
+ * за значенням (власником) виконуються через зворотний індекс без сортування
+ * та повного перегляду записів.</p>
+ * 
+ * <p>Впорядкований режим зберігає качок у TreeMap за {@link Duck#compareTo(Duck)}:
+ * порядок підтримується під час кожної вставки, тож окреме сортування не потрібне,
+ * а діапазон кличок з однаковим префіксом повертається як перегляд без копіювання.
+ * Hashtable і LinkedHashMap більше не «сортуються» перебудовою — Hashtable все одно
+ * не зберігає порядок, а копія LinkedHashMap коштувала O(n log n) на кожне читання.</p>
+ * 
+ * <p>Режим кешу ставить перед Hashtable обмежений {@link BoundedCache} (LRU на
+ * LinkedHashMap у порядку доступу або CLOCK) і показує попадання, промахи та
+ * витіснення на нерівномірному потоці запитів. Місткість і політика задаються
+ * властивостями {@code -Dmap.cacheCapacity} і {@code -Dmap.cachePolicy}.</p>
+ * 
+ * <p>Конкурентний режим використовує {@link ConcurrentDuckRegistry} замість Hashtable:
+ * без монітора на всю таблицю, з атомарними compute/merge власника. Порівняння
+ * пропускної здатності під навантаженням — у {@link DuckRegistryWorkload}.</p>
+ * 
+ * <p>Компактний режим {@link CompactDuckRegistry} зберігає качку як один long
+ * (номер клички у словнику + кількість каченят), а власника — як номер int.
+ * Режим {@link OffHeapDuckRegistry} тримає такі самі записи в прямих буферах поза купою.</p>
+ * 
+ * <p>Дані качок зберігаються у знімку {@link DuckRegistrySnapshot} ({@code list/Duck.snapshot}).
+ * При старті файл відображається в пам'ять: OffHeapDuckRegistry відновлюється з нього
+ * комірка в комірку без хешування, а решта мап заповнюється записами знімка. Початкові
+ * дані записуються у знімок лише тоді, коли файлу немає або він пошкоджений.</p>
  */
 public class BasicDataOperationUsingMap {
 
@@ -29,27 +63,30 @@ public class BasicDataOperationUsingMap {
 
     private final String VALUE_TO_SEARCH_AND_DELETE = "Олег";
     private final String VALUE_TO_ADD = "Богдан";
-
-    private Hashtable<Duck, String> hashtable;
-    private LinkedHashMap<Duck, String> linkedHashMap;
-
-    // ======= КОМПАРАТОР ДЛЯ ПОШУКУ ЗА ЗНАЧЕННЯМ =======
-    static class OwnerValueComparator implements Comparator<Map.Entry<Duck, String>> {
-        @Override
-        public int compare(Map.Entry<Duck, String> e1, Map.Entry<Duck, String> e2) {
-            String v1 = e1.getValue();
-            String v2 = e2.getValue();
-            if (v1 == null && v2 == null) return 0;
-            if (v1 == null) return -1;
-            if (v2 == null) return 1;
-            return v1.compareTo(v2);
-        }
-    }
+    private final String NICKNAME_PREFIX_TO_SEARCH = "Кр";
+    private static final String SNAPSHOT_FILE_PATH = "list/Duck.snapshot";
+    private static final int CACHE_LOOKUP_COUNT = 10_000;
+    // показник ступеня робить розподіл запитів нерівномірним: перші качки «гарячі»
+    private static final double CACHE_LOOKUP_SKEW = 3.0;
+
+    // мапи змінюються лише через обгортки, які підтримують індекс власник → качки
+    private ValueIndexedMap<Duck, String> hashtable;
+    private ValueIndexedMap<Duck, String> linkedHashMap;
+    // впорядкована мапа: зміни йдуть через treeMap, а treeMapOrder лише для читання діапазонів
+    private ValueIndexedMap<Duck, String> treeMap;
+    private NavigableMap<Duck, String> treeMapOrder;
+    private ConcurrentDuckRegistry concurrentRegistry;
+    private CompactDuckRegistry compactRegistry;
+    private OffHeapDuckRegistry offHeapRegistry;
+    // знімок, з якого завантажено дані (null, якщо реєстри побудовано без нього)
+    private DuckRegistrySnapshot snapshot;
 
     // ======= КЛАС DUCK (домашня тварина) =======
     public static class Duck implements Comparable<Duck> {
         private final String nickname;
         private final Integer chicks;
+        // поля незмінні, тож хеш обчислюється один раз (0 — ще не обчислено)
+        private int hash;
 
         public Duck(String nickname) {
             this.nickname = nickname;
@@ -89,7 +126,12 @@ public class BasicDataOperationUsingMap {
 
         @Override
         public int hashCode() {
-            return 31 * nickname.hashCode() + chicks.hashCode();
+            int h = hash;
+            if (h == 0) {
+                h = 31 * nickname.hashCode() + chicks.hashCode();
+                hash = h;
+            }
+            return h;
         }
 
         @Override
@@ -100,8 +142,36 @@ public class BasicDataOperationUsingMap {
 
     // ======= КОНСТРУКТОР =======
     BasicDataOperationUsingMap(Hashtable<Duck, String> hashtable, LinkedHashMap<Duck, String> linkedHashMap) {
-        this.hashtable = hashtable;
-        this.linkedHashMap = linkedHashMap;
+        this(hashtable, linkedHashMap, new TreeMap<>(hashtable));
+    }
+
+    BasicDataOperationUsingMap(Hashtable<Duck, String> hashtable, LinkedHashMap<Duck, String> linkedHashMap,
+                               TreeMap<Duck, String> treeMap) {
+        this(hashtable, linkedHashMap, treeMap, offHeapRegistryOf(hashtable), null);
+    }
+
+    private BasicDataOperationUsingMap(Hashtable<Duck, String> hashtable, LinkedHashMap<Duck, String> linkedHashMap,
+                                       TreeMap<Duck, String> treeMap, OffHeapDuckRegistry offHeapRegistry,
+                                       DuckRegistrySnapshot snapshot) {
+        this.hashtable = new ValueIndexedMap<>(hashtable);
+        this.linkedHashMap = new ValueIndexedMap<>(linkedHashMap);
+        this.treeMap = new ValueIndexedMap<>(treeMap);
+        this.treeMapOrder = Collections.unmodifiableNavigableMap(treeMap);
+        this.concurrentRegistry = new ConcurrentDuckRegistry(hashtable.size());
+        for (Map.Entry<Duck, String> e : hashtable.entrySet())
+            concurrentRegistry.register(e.getKey(), e.getValue());
+        this.compactRegistry = new CompactDuckRegistry(hashtable.size());
+        for (Map.Entry<Duck, String> e : hashtable.entrySet())
+            compactRegistry.put(e.getKey(), e.getValue());
+        this.offHeapRegistry = offHeapRegistry;
+        this.snapshot = snapshot;
+    }
+
+    private static OffHeapDuckRegistry offHeapRegistryOf(Map<Duck, String> ducks) {
+        OffHeapDuckRegistry registry = new OffHeapDuckRegistry(ducks.size());
+        for (Map.Entry<Duck, String> e : ducks.entrySet())
+            registry.put(e.getKey(), e.getValue());
+        return registry;
     }
 
     // ======= ВИКОНАННЯ УСІХ ОПЕРАЦІЙ =======
@@ -115,11 +185,6 @@ public class BasicDataOperationUsingMap {
         findByValueInHashtable();
 
         printHashtable();
-        sortHashtable();
-        printHashtable();
-
-        findByKeyInHashtable();
-        findByValueInHashtable();
 
         addEntryToHashtable();
         removeByKeyFromHashtable();
@@ -134,8 +199,6 @@ public class BasicDataOperationUsingMap {
         findByKeyInLinkedHashMap();
         findByValueInLinkedHashMap();
 
-        printLinkedHashMap();
-        sortLinkedHashMap();
         printLinkedHashMap();
 
         addEntryToLinkedHashMap();
@@ -143,33 +206,85 @@ public class BasicDataOperationUsingMap {
         removeByValueFromLinkedHashMap();
 
         System.out.println("Кінцевий розмір LinkedHashMap: " + linkedHashMap.size());
+
+        // ===== LinkedHashMap ЯК КЕШ ПЕРЕД Hashtable =====
+        System.out.println("\n\n========= Кеш гарячих ключів перед Hashtable =========");
+        runCacheOperations();
+
+        // ===== ОПЕРАЦІЇ З TreeMap =====
+        System.out.println("\n\n========= Операції з TreeMap (впорядкований режим) =========");
+        System.out.println("Початковий розмір TreeMap: " + treeMap.size());
+
+        findByKeyInTreeMap();
+        findByValueInTreeMap();
+
+        printTreeMap();
+        findByNicknamePrefixInTreeMap();
+
+        addEntryToTreeMap();
+        removeByKeyFromTreeMap();
+        removeByValueFromTreeMap();
+
+        printTreeMap();
+        System.out.println("Кінцевий розмір TreeMap: " + treeMap.size());
+
+        // ===== ОПЕРАЦІЇ З ConcurrentDuckRegistry =====
+        System.out.println("\n\n========= Операції з ConcurrentDuckRegistry =========");
+        System.out.println("Початковий розмір ConcurrentDuckRegistry: " + concurrentRegistry.size());
+
+        findByKeyInConcurrentRegistry();
+        findByValueInConcurrentRegistry();
+
+        addEntryToConcurrentRegistry();
+        removeByKeyFromConcurrentRegistry();
+        removeByValueFromConcurrentRegistry();
+
+        System.out.println("Кінцевий розмір ConcurrentDuckRegistry: " + concurrentRegistry.size());
+
+        // ===== ОПЕРАЦІЇ З CompactDuckRegistry =====
+        System.out.println("\n\n========= Операції з CompactDuckRegistry =========");
+        System.out.println("Початковий розмір CompactDuckRegistry: " + compactRegistry.size());
+
+        findByKeyInCompactRegistry();
+        addEntryToCompactRegistry();
+        removeByKeyFromCompactRegistry();
+
+        System.out.println("Різних кличок: " + compactRegistry.distinctNicknameCount()
+            + ", різних власників: " + compactRegistry.distinctOwnerCount()
+            + ", таблиця: " + compactRegistry.footprintBytes() + " байт");
+        System.out.println("Кінцевий розмір CompactDuckRegistry: " + compactRegistry.size());
+
+        // ===== ОПЕРАЦІЇ З OffHeapDuckRegistry =====
+        System.out.println("\n\n========= Операції з OffHeapDuckRegistry =========");
+        System.out.println("Початковий розмір OffHeapDuckRegistry: " + offHeapRegistry.size());
+
+        findByKeyInOffHeapRegistry();
+        findByValueInOffHeapRegistry();
+
+        addEntryToOffHeapRegistry();
+        removeByKeyFromOffHeapRegistry();
+        removeByValueFromOffHeapRegistry();
+
+        System.out.println("Пам'ять поза купою: " + offHeapRegistry.offHeapBytes() + " байт");
+        System.out.println("Кінцевий розмір OffHeapDuckRegistry: " + offHeapRegistry.size());
+
+        // ===== ЗНІМОК OffHeapDuckRegistry =====
+        System.out.println("\n\n========= Знімок OffHeapDuckRegistry =========");
+        runSnapshotOperations();
     }
 
     // ===== PRINT Hashtable =====
     private void printHashtable() {
         System.out.println("\n=== Пари ключ-значення в Hashtable ===");
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         for (Map.Entry<Duck, String> e : hashtable.entrySet())
             System.out.println("  " + e.getKey() + " -> " + e.getValue());
         PerformanceTracker.displayOperationTime(t, "виведення пари ключ-значення в Hashtable");
     }
 
-    // ===== SORT Hashtable =====
-    private void sortHashtable() {
-        long t = System.nanoTime();
-        List<Duck> keys = new ArrayList<>(hashtable.keySet());
-        Collections.sort(keys);
-
-        Hashtable<Duck, String> sorted = new Hashtable<>();
-        for (Duck d : keys) sorted.put(d, hashtable.get(d));
-
-        hashtable = sorted;
-        PerformanceTracker.displayOperationTime(t, "сортування Hashtable за ключами");
-    }
-
     // ===== FIND KEY Hashtable =====
     void findByKeyInHashtable() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         boolean found = hashtable.containsKey(KEY_TO_SEARCH_AND_DELETE);
         PerformanceTracker.displayOperationTime(t, "пошук за ключем в Hashtable");
 
@@ -181,53 +296,38 @@ public class BasicDataOperationUsingMap {
 
     // ===== FIND VALUE Hashtable =====
     void findByValueInHashtable() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
 
-        List<Map.Entry<Duck, String>> list = new ArrayList<>(hashtable.entrySet());
-        OwnerValueComparator cmp = new OwnerValueComparator();
-        Collections.sort(list, cmp);
+        Set<Duck> owners = hashtable.keysForValue(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням в Hashtable через зворотний індекс");
 
-        Map.Entry<Duck, String> search = new Map.Entry<Duck, String>() {
-            public Duck getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String v) { return null; }
-        };
-
-        int pos = Collections.binarySearch(list, search, cmp);
-        PerformanceTracker.displayOperationTime(t, "бінарний пошук за значенням в Hashtable");
-
-        if (pos >= 0)
-            System.out.println("Власника знайдено: " + list.get(pos).getKey());
+        if (!owners.isEmpty())
+            System.out.println("Власника знайдено: " + owners);
         else
             System.out.println("Власника НЕ знайдено.");
     }
 
     // ===== ADD Hashtable =====
     void addEntryToHashtable() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         hashtable.put(KEY_TO_ADD, VALUE_TO_ADD);
         PerformanceTracker.displayOperationTime(t, "додавання запису до Hashtable");
     }
 
     // ===== REMOVE KEY Hashtable =====
     void removeByKeyFromHashtable() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         hashtable.remove(KEY_TO_SEARCH_AND_DELETE);
         PerformanceTracker.displayOperationTime(t, "видалення за ключем з Hashtable");
     }
 
     // ===== REMOVE VALUE Hashtable =====
     void removeByValueFromHashtable() {
-        long t = System.nanoTime();
-        List<Duck> toRemove = new ArrayList<>();
-
-        for (Map.Entry<Duck, String> e : hashtable.entrySet())
-            if (VALUE_TO_SEARCH_AND_DELETE.equals(e.getValue()))
-                toRemove.add(e.getKey());
-
-        for (Duck d : toRemove) hashtable.remove(d);
+        long t = PerformanceTracker.startOperation();
+        int removed = hashtable.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
 
         PerformanceTracker.displayOperationTime(t, "видалення за значенням з Hashtable");
+        System.out.println("Видалено записів: " + removed);
     }
 
 
@@ -238,28 +338,14 @@ public class BasicDataOperationUsingMap {
 
     private void printLinkedHashMap() {
         System.out.println("\n=== Пари ключ-значення в LinkedHashMap ===");
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         for (Map.Entry<Duck, String> e : linkedHashMap.entrySet())
             System.out.println("  " + e.getKey() + " -> " + e.getValue());
         PerformanceTracker.displayOperationTime(t, "виведення ключ-значення в LinkedHashMap");
     }
 
-    private void sortLinkedHashMap() {
-        long t = System.nanoTime();
-
-        List<Duck> keys = new ArrayList<>(linkedHashMap.keySet());
-        Collections.sort(keys);
-
-        LinkedHashMap<Duck, String> sorted = new LinkedHashMap<>();
-        for (Duck d : keys) sorted.put(d, linkedHashMap.get(d));
-
-        linkedHashMap = sorted;
-
-        PerformanceTracker.displayOperationTime(t, "сортування LinkedHashMap за ключами");
-    }
-
     void findByKeyInLinkedHashMap() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         boolean found = linkedHashMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
         PerformanceTracker.displayOperationTime(t, "пошук за ключем в LinkedHashMap");
 
@@ -270,50 +356,335 @@ public class BasicDataOperationUsingMap {
     }
 
     void findByValueInLinkedHashMap() {
-        long t = System.nanoTime();
-
-        List<Map.Entry<Duck, String>> list = new ArrayList<>(linkedHashMap.entrySet());
-        OwnerValueComparator cmp = new OwnerValueComparator();
-        Collections.sort(list, cmp);
-
-        Map.Entry<Duck, String> search = new Map.Entry<Duck, String>() {
-            public Duck getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String v) { return null; }
-        };
+        long t = PerformanceTracker.startOperation();
 
-        int pos = Collections.binarySearch(list, search, cmp);
-        PerformanceTracker.displayOperationTime(t, "бінарний пошук за значенням в LinkedHashMap");
+        Set<Duck> owners = linkedHashMap.keysForValue(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням в LinkedHashMap через зворотний індекс");
 
-        if (pos >= 0)
-            System.out.println("Власника знайдено: " + list.get(pos).getKey());
+        if (!owners.isEmpty())
+            System.out.println("Власника знайдено: " + owners);
         else
             System.out.println("Власника НЕ знайдено.");
     }
 
     void addEntryToLinkedHashMap() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         linkedHashMap.put(KEY_TO_ADD, VALUE_TO_ADD);
         PerformanceTracker.displayOperationTime(t, "додавання в LinkedHashMap");
     }
 
     void removeByKeyFromLinkedHashMap() {
-        long t = System.nanoTime();
+        long t = PerformanceTracker.startOperation();
         linkedHashMap.remove(KEY_TO_SEARCH_AND_DELETE);
         PerformanceTracker.displayOperationTime(t, "видалення за ключем з LinkedHashMap");
     }
 
     void removeByValueFromLinkedHashMap() {
-        long t = System.nanoTime();
-        List<Duck> toRemove = new ArrayList<>();
+        long t = PerformanceTracker.startOperation();
+        int removed = linkedHashMap.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
 
-        for (Map.Entry<Duck, String> e : linkedHashMap.entrySet())
-            if (VALUE_TO_SEARCH_AND_DELETE.equals(e.getValue()))
-                toRemove.add(e.getKey());
+        PerformanceTracker.displayOperationTime(t, "видалення за значенням з LinkedHashMap");
+        System.out.println("Видалено записів: " + removed);
+    }
 
-        for (Duck d : toRemove) linkedHashMap.remove(d);
 
-        PerformanceTracker.displayOperationTime(t, "видалення за значенням з LinkedHashMap");
+
+
+    // ============================================================
+    //       BOUNDEDCACHE (LRU/CLOCK перед повним реєстром)
+    // ============================================================
+
+    void runCacheOperations() {
+        int capacity = cacheCapacityFromSystemProperty(hashtable.size());
+        BoundedCache.EvictionPolicy[] policies = cachePoliciesFromSystemProperty();
+
+        List<Duck> keys = new ArrayList<>(hashtable.keySet());
+        for (BoundedCache.EvictionPolicy policy : policies) {
+            BoundedCache<Duck, String> cache = new BoundedCache<>(capacity, policy, hashtable::get);
+            // однакове зерно дає обом політикам той самий потік запитів
+            Random random = new Random(42);
+            long t = PerformanceTracker.startOperation();
+            for (int i = 0; i < CACHE_LOOKUP_COUNT; i++) {
+                int index = (int) (keys.size() * Math.pow(random.nextDouble(), CACHE_LOOKUP_SKEW));
+                cache.get(keys.get(index));
+            }
+            PerformanceTracker.displayOperationTime(t, "пошук через кеш " + policy, CACHE_LOOKUP_COUNT + " запитів");
+            System.out.println(cache);
+
+            // після зміни реєстру застарілий запис скидається з кешу
+            Duck updated = keys.get(0);
+            String previousOwner = hashtable.put(updated, VALUE_TO_ADD);
+            cache.invalidate(updated);
+            System.out.println("Після оновлення: " + updated + " -> " + cache.get(updated));
+            // демонстрація не повинна змінювати основну мапу
+            hashtable.put(updated, previousOwner);
+        }
+    }
+
+    /**
+     * Зчитує політику кешу з властивості {@code -Dmap.cachePolicy}.
+     *
+     * @return Обрана політика або всі політики, якщо властивість не задана чи невідома
+     */
+    static BoundedCache.EvictionPolicy[] cachePoliciesFromSystemProperty() {
+        String configured = System.getProperty("map.cachePolicy");
+        if (configured == null || configured.isBlank()) {
+            return BoundedCache.EvictionPolicy.values();
+        }
+        try {
+            return new BoundedCache.EvictionPolicy[] {BoundedCache.EvictionPolicy.valueOf(configured.trim().toUpperCase())};
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠️ Невідома політика кешу '" + configured + "', порівнюються всі політики");
+            return BoundedCache.EvictionPolicy.values();
+        }
+    }
+
+    static int cacheCapacityFromSystemProperty(int registrySize) {
+        String value = System.getProperty("map.cacheCapacity");
+        if (value == null || value.isBlank()) {
+            return Math.max(1, registrySize / 4);
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+
+
+
+    // ============================================================
+    //        TREEMAP (впорядкований режим за Duck.compareTo)
+    // ============================================================
+
+    private void printTreeMap() {
+        System.out.println("\n=== Пари ключ-значення в TreeMap (за зростанням ключів) ===");
+        long t = PerformanceTracker.startOperation();
+        for (Map.Entry<Duck, String> e : treeMap.entrySet())
+            System.out.println("  " + e.getKey() + " -> " + e.getValue());
+        PerformanceTracker.displayOperationTime(t, "виведення ключ-значення в TreeMap");
+    }
+
+    void findByKeyInTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        boolean found = treeMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за ключем в TreeMap");
+
+        if (found)
+            System.out.println("Елемент знайдено: " + treeMap.get(KEY_TO_SEARCH_AND_DELETE));
+        else
+            System.out.println("Елемент НЕ знайдено.");
+    }
+
+    void findByValueInTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        Set<Duck> owners = treeMap.keysForValue(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням в TreeMap через зворотний індекс");
+
+        if (!owners.isEmpty())
+            System.out.println("Власника знайдено: " + owners);
+        else
+            System.out.println("Власника НЕ знайдено.");
+    }
+
+    void findByNicknamePrefixInTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        SortedMap<Duck, String> range = nicknamePrefixView(treeMapOrder, NICKNAME_PREFIX_TO_SEARCH);
+        PerformanceTracker.displayOperationTime(t, "діапазон кличок з префіксом у TreeMap");
+
+        System.out.println("Качки з кличкою на '" + NICKNAME_PREFIX_TO_SEARCH + "': " + range.size());
+        for (Map.Entry<Duck, String> e : range.entrySet())
+            System.out.println("  " + e.getKey() + " -> " + e.getValue());
+    }
+
+    void addEntryToTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        treeMap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        PerformanceTracker.displayOperationTime(t, "додавання в TreeMap");
+    }
+
+    void removeByKeyFromTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        treeMap.remove(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "видалення за ключем з TreeMap");
+    }
+
+    void removeByValueFromTreeMap() {
+        long t = PerformanceTracker.startOperation();
+        int removed = treeMap.removeByValue(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(t, "видалення за значенням з TreeMap");
+        System.out.println("Видалено записів: " + removed);
+    }
+
+    // ============================================================
+    //     CONCURRENTDUCKREGISTRY (конкурентний режим замість Hashtable)
+    // ============================================================
+
+    void findByKeyInConcurrentRegistry() {
+        long t = PerformanceTracker.startOperation();
+        String owner = concurrentRegistry.get(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за ключем в ConcurrentDuckRegistry");
+
+        if (owner != null)
+            System.out.println("Елемент знайдено: " + owner);
+        else
+            System.out.println("Елемент НЕ знайдено.");
+    }
+
+    void findByValueInConcurrentRegistry() {
+        long t = PerformanceTracker.startOperation();
+        Set<Duck> owners = concurrentRegistry.ducksOf(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням в ConcurrentDuckRegistry через зворотний індекс");
+
+        if (!owners.isEmpty())
+            System.out.println("Власника знайдено: " + owners);
+        else
+            System.out.println("Власника НЕ знайдено.");
+    }
+
+    void addEntryToConcurrentRegistry() {
+        long t = PerformanceTracker.startOperation();
+        // merge: якщо качка вже зареєстрована, власники об'єднуються в одному атомарному кроці
+        String owner = concurrentRegistry.mergeOwner(KEY_TO_ADD, VALUE_TO_ADD, (current, added) -> current + ", " + added);
+        PerformanceTracker.displayOperationTime(t, "додавання (merge) в ConcurrentDuckRegistry");
+        System.out.println("Власник після merge: " + owner);
+    }
+
+    void removeByKeyFromConcurrentRegistry() {
+        long t = PerformanceTracker.startOperation();
+        concurrentRegistry.remove(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "видалення за ключем з ConcurrentDuckRegistry");
+    }
+
+    void removeByValueFromConcurrentRegistry() {
+        long t = PerformanceTracker.startOperation();
+        int removed = concurrentRegistry.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(t, "видалення за значенням з ConcurrentDuckRegistry");
+        System.out.println("Видалено записів: " + removed);
+    }
+
+    // ============================================================
+    //     COMPACTDUCKREGISTRY (качка як long, власник як номер)
+    // ============================================================
+
+    void findByKeyInCompactRegistry() {
+        long t = PerformanceTracker.startOperation();
+        String owner = compactRegistry.get(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за ключем в CompactDuckRegistry");
+
+        if (owner != null)
+            System.out.println("Елемент знайдено: " + owner);
+        else
+            System.out.println("Елемент НЕ знайдено.");
+    }
+
+    void addEntryToCompactRegistry() {
+        long t = PerformanceTracker.startOperation();
+        compactRegistry.put(KEY_TO_ADD, VALUE_TO_ADD);
+        PerformanceTracker.displayOperationTime(t, "додавання в CompactDuckRegistry");
+    }
+
+    void removeByKeyFromCompactRegistry() {
+        long t = PerformanceTracker.startOperation();
+        compactRegistry.remove(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "видалення за ключем з CompactDuckRegistry");
+    }
+
+    // ============================================================
+    //     OFFHEAPDUCKREGISTRY (записи в прямих буферах поза купою)
+    // ============================================================
+
+    void findByKeyInOffHeapRegistry() {
+        long t = PerformanceTracker.startOperation();
+        String owner = offHeapRegistry.get(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за ключем в OffHeapDuckRegistry");
+
+        if (owner != null)
+            System.out.println("Елемент знайдено: " + owner);
+        else
+            System.out.println("Елемент НЕ знайдено.");
+    }
+
+    void findByValueInOffHeapRegistry() {
+        long t = PerformanceTracker.startOperation();
+        List<Duck> owners = offHeapRegistry.ducksOf(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням в OffHeapDuckRegistry");
+
+        if (!owners.isEmpty())
+            System.out.println("Власника знайдено: " + owners);
+        else
+            System.out.println("Власника НЕ знайдено.");
+    }
+
+    void addEntryToOffHeapRegistry() {
+        long t = PerformanceTracker.startOperation();
+        offHeapRegistry.put(KEY_TO_ADD, VALUE_TO_ADD);
+        PerformanceTracker.displayOperationTime(t, "додавання в OffHeapDuckRegistry");
+    }
+
+    void removeByKeyFromOffHeapRegistry() {
+        long t = PerformanceTracker.startOperation();
+        offHeapRegistry.remove(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "видалення за ключем з OffHeapDuckRegistry");
+    }
+
+    void removeByValueFromOffHeapRegistry() {
+        long t = PerformanceTracker.startOperation();
+        int removed = offHeapRegistry.removeByOwner(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.displayOperationTime(t, "видалення за значенням з OffHeapDuckRegistry");
+        System.out.println("Видалено записів: " + removed);
+    }
+
+    // ============================================================
+    //     DUCKREGISTRYSNAPSHOT (знімок, відображений у пам'ять)
+    // ============================================================
+
+    void runSnapshotOperations() {
+        if (snapshot == null) {
+            System.out.println("Знімок не відкрито.");
+            return;
+        }
+        // знімок лише для читання: у ньому стан на момент старту, без змін, зроблених вище
+        System.out.println("Записів у знімку " + SNAPSHOT_FILE_PATH + ": " + snapshot.size());
+
+        long t = PerformanceTracker.startOperation();
+        String owner = snapshot.get(KEY_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за ключем у знімку");
+        System.out.println(owner != null ? "Елемент знайдено: " + owner : "Елемент НЕ знайдено.");
+
+        t = PerformanceTracker.startOperation();
+        List<Duck> ducks = snapshot.ducksOf(VALUE_TO_SEARCH_AND_DELETE);
+        PerformanceTracker.displayOperationTime(t, "пошук за значенням у знімку");
+        System.out.println(!ducks.isEmpty() ? "Власника знайдено: " + ducks : "Власника НЕ знайдено.");
+    }
+
+    /**
+     * Повертає перегляд записів, клички яких починаються з префікса, без копіювання.
+     * 
+     * <p>Серед качок з однаковою кличкою першою йде та, що має найбільше каченят
+     * (див. {@link Duck#compareTo(Duck)}), тому межі діапазону — качки з кличками
+     * prefix і «наступний за prefix рядок» та кількістю каченят Integer.MAX_VALUE.</p>
+     * 
+     * @param map Впорядкована мапа качок
+     * @param prefix Префікс клички
+     * @return Перегляд діапазону в порядку ключів
+     */
+    static SortedMap<Duck, String> nicknamePrefixView(NavigableMap<Duck, String> map, String prefix) {
+        Duck from = new Duck(prefix, Integer.MAX_VALUE);
+        String upperNickname = nextPrefix(prefix);
+        if (upperNickname == null)
+            return map.tailMap(from, true);
+        return map.subMap(from, true, new Duck(upperNickname, Integer.MAX_VALUE), false);
+    }
+
+    // найменший рядок, більший за всі рядки з цим префіксом (null, якщо такого немає)
+    private static String nextPrefix(String prefix) {
+        for (int i = prefix.length() - 1; i >= 0; i--) {
+            char c = prefix.charAt(i);
+            if (c != Character.MAX_VALUE)
+                return prefix.substring(0, i) + (char) (c + 1);
+        }
+        return null;
     }
 
 
@@ -325,7 +696,69 @@ public class BasicDataOperationUsingMap {
 
     public static void main(String[] args) {
 
-        // Створюємо початкові дані
+        // Запуск програми
+        BasicDataOperationUsingMap operations = openFromSnapshot(SNAPSHOT_FILE_PATH);
+
+        operations.executeDataOperations();
+        PerformanceTracker.printMetricsReport();
+    }
+
+    /**
+     * Будує всі реєстри зі знімка. Якщо файлу немає або він пошкоджений, спершу
+     * записує в нього початкові дані.
+     *
+     * @param snapshotPath Шлях до файлу знімка
+     * @return Операції над даними знімка
+     */
+    static BasicDataOperationUsingMap openFromSnapshot(String snapshotPath) {
+        System.out.println("========= Завантаження даних качок зі знімка =========");
+        long t = PerformanceTracker.startOperation();
+        DuckRegistrySnapshot snapshot = openSnapshot(snapshotPath);
+        if (snapshot != null) {
+            PerformanceTracker.displayOperationTime(t, "відкриття знімка " + snapshotPath, "записів: " + snapshot.size());
+        } else {
+            Hashtable<Duck, String> seed = seedData();
+            try {
+                DuckRegistrySnapshot.write(offHeapRegistryOf(seed), snapshotPath);
+                snapshot = DuckRegistrySnapshot.open(snapshotPath);
+            } catch (IOException e) {
+                System.out.println("⚠️ Не вдалося записати знімок " + snapshotPath + ": " + e.getMessage());
+                return new BasicDataOperationUsingMap(seed, new LinkedHashMap<>(seed));
+            }
+            PerformanceTracker.displayOperationTime(t, "запис початкових даних у знімок " + snapshotPath,
+                "записів: " + snapshot.size());
+        }
+
+        t = PerformanceTracker.startOperation();
+        OffHeapDuckRegistry offHeapRegistry = snapshot.toRegistry();
+        PerformanceTracker.displayOperationTime(t, "відновлення OffHeapDuckRegistry зі знімка",
+            "записів: " + offHeapRegistry.size());
+
+        t = PerformanceTracker.startOperation();
+        Hashtable<Duck, String> hashtable = new Hashtable<>();
+        snapshot.forEach(hashtable::put);
+        PerformanceTracker.displayOperationTime(t, "заповнення Hashtable зі знімка");
+
+        LinkedHashMap<Duck, String> linkedHashMap = new LinkedHashMap<>(hashtable);
+        return new BasicDataOperationUsingMap(hashtable, linkedHashMap, new TreeMap<>(hashtable),
+            offHeapRegistry, snapshot);
+    }
+
+    private static DuckRegistrySnapshot openSnapshot(String snapshotPath) {
+        try {
+            return DuckRegistrySnapshot.open(snapshotPath);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("⚠️ Знімок " + snapshotPath + " пошкоджений, початкові дані записуються заново: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Початкові дані, якими заповнюється новий знімок.
+     */
+    static Hashtable<Duck, String> seedData() {
         Hashtable<Duck, String> hashtable = new Hashtable<>();
         hashtable.put(new Duck("Кряка", 3), "Роман");
         hashtable.put(new Duck("Крила", 5), "Світлана");
@@ -337,14 +770,6 @@ public class BasicDataOperationUsingMap {
         hashtable.put(new Duck("Крила", 9), "Іван");
         hashtable.put(new Duck("Літачка", 1), "Світлана");
         hashtable.put(new Duck("Перо", 10), "Петро");
-
-        LinkedHashMap<Duck, String> linkedHashMap = new LinkedHashMap<>();
-        linkedHashMap.putAll(hashtable);
-
-        // Запуск програми
-        BasicDataOperationUsingMap operations =
-            new BasicDataOperationUsingMap(hashtable, linkedHashMap);
-
-        operations.executeDataOperations();
+        return hashtable;
     }
 }
@@ -17,11 +17,26 @@ import java.util.PriorityQueue;
  *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
  * </ul>
  * 
+ * <p>Режим {@link QueueImplementation#MIN_MAX_HEAP} замінює {@code PriorityQueue<Integer>} на
+ * примітивну купу {@link IntMinMaxHeap} з індексом значень: мін/макс за O(1), пошук за O(1).</p>
  */
 public class BasicDataOperationUsingQueue {
+
+    /**
+     * Реалізація черги, з якою працює процесор.
+     */
+    public enum QueueImplementation {
+        PRIORITY_QUEUE,
+        MIN_MAX_HEAP
+    }
+
     private Integer dateTimeValueToSearch;
     private Integer[] integerArray;
     private Queue<Integer> integerQueue;
+    private IntMinMaxHeap minMaxHeap;
+    private final QueueImplementation queueImplementation;
+    private boolean arraySorted;
+    private IntSortEngine sortEngine = IntSortEngine.fromSystemProperty();
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -30,9 +45,30 @@ public class BasicDataOperationUsingQueue {
      * @param integerArray Масив Integer
      */
     BasicDataOperationUsingQueue(Integer dateTimeValueToSearch, Integer[] integerArray) {
+        this(dateTimeValueToSearch, integerArray, QueueImplementation.PRIORITY_QUEUE);
+    }
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними та обраною реалізацією черги.
+     * 
+     * @param dateTimeValueToSearch Значення для пошуку
+     * @param integerArray Масив Integer
+     * @param queueImplementation Реалізація черги
+     */
+    BasicDataOperationUsingQueue(Integer dateTimeValueToSearch, Integer[] integerArray, QueueImplementation queueImplementation) {
         this.dateTimeValueToSearch = dateTimeValueToSearch;
         this.integerArray = integerArray;
-        this.integerQueue= new PriorityQueue<>(Arrays.asList(integerArray));
+        this.queueImplementation = queueImplementation;
+        if (queueImplementation == QueueImplementation.MIN_MAX_HEAP) {
+            int[] values = new int[integerArray.length];
+            for (int i = 0; i < integerArray.length; i++) {
+                values[i] = integerArray[i];
+            }
+            this.minMaxHeap = IntMinMaxHeap.of(values, true);
+        } else {
+            this.integerQueue= new PriorityQueue<>(Arrays.asList(integerArray));
+        }
+        this.arraySorted = isArraySorted();
     }
     
     /**
@@ -41,10 +77,18 @@ public class BasicDataOperationUsingQueue {
      * Метод завантажує дані, виконує операції з чергою та масивом Integer.
      */
     public void runDataProcessing() {
+        System.out.println("Реалізація черги: " + queueImplementation);
+
         // спочатку обробляємо чергу дати та часу
-        findInQueue();
-        locateMinMaxInQueue();
-        performQueueOperations();
+        if (queueImplementation == QueueImplementation.MIN_MAX_HEAP) {
+            findInMinMaxHeap();
+            locateMinMaxInMinMaxHeap();
+            performMinMaxHeapOperations();
+        } else {
+            findInQueue();
+            locateMinMaxInQueue();
+            performQueueOperations();
+        }
 
         // потім працюємо з масивом
         findInArray();
@@ -59,27 +103,38 @@ public class BasicDataOperationUsingQueue {
         DataFileHandler.writeArrayToFile(integerArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
+    /**
+     * Задає стратегію сортування масиву.
+     *
+     * @param strategy Стратегія сортування
+     */
+    void setSortStrategy(IntSortEngine.Strategy strategy) {
+        this.sortEngine = new IntSortEngine(strategy);
+    }
+
     /**
      * Сортує масив об'єктiв Integer та виводить початковий i вiдсортований масиви.
      * Вимiрює та виводить час, витрачений на сортування масиву в наносекундах.
      */
     private void performArraySorting() {
         // вимірюємо тривалість упорядкування масиву дати та часу
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        Arrays.sort(integerArray);
+        IntSortEngine.Strategy strategy = sortEngine.sort(integerArray);
+        arraySorted = true;
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу", "стратегія " + strategy);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
+     * Двійковий пошук виконується лише для впорядкованого масиву, інакше — лінійний.
      */
     private void findInArray() {
         // відстежуємо час виконання пошуку в масиві
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
         
-        int position = Arrays.binarySearch(this.integerArray, dateTimeValueToSearch);
+        int position = arraySorted ? Arrays.binarySearch(this.integerArray, dateTimeValueToSearch) : linearSearchInArray(dateTimeValueToSearch);
         
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
 
@@ -100,7 +155,7 @@ public class BasicDataOperationUsingQueue {
         }
 
         // відстежуємо час на визначення граничних значень
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         Integer minValue = integerArray[0];
         Integer maxValue = integerArray[0];
@@ -125,7 +180,7 @@ public class BasicDataOperationUsingQueue {
      */
     private void findInQueue() {
         // вимірюємо час пошуку в черзі
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         boolean elementExists = this.integerQueue.contains(dateTimeValueToSearch);
 
@@ -148,7 +203,7 @@ public class BasicDataOperationUsingQueue {
         }
 
         // відстежуємо час пошуку граничних значень
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         Integer minValue = Collections.min(integerQueue);
         Integer maxValue = Collections.max(integerQueue);
@@ -177,4 +232,79 @@ public class BasicDataOperationUsingQueue {
         headElement = integerQueue.peek();
         System.out.println("Новий головний елемент черги: " + headElement);
     }
-}
\ No newline at end of file
+
+    /**
+     * Здійснює пошук значення в купі через індекс значень за O(1).
+     */
+    private void findInMinMaxHeap() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        boolean elementExists = minMaxHeap.contains(dateTimeValueToSearch);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в IntMinMaxHeap");
+
+        if (elementExists) {
+            System.out.println("Елемент '" + dateTimeValueToSearch + "' знайдено в IntMinMaxHeap (кількість: " + minMaxHeap.count(dateTimeValueToSearch) + ")");
+        } else {
+            System.out.println("Елемент '" + dateTimeValueToSearch + "' відсутній в IntMinMaxHeap.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в купі за O(1).
+     */
+    private void locateMinMaxInMinMaxHeap() {
+        if (minMaxHeap == null || minMaxHeap.isEmpty()) {
+            System.out.println("Купа є пустою або не ініціалізованою.");
+            return;
+        }
+
+        long timeStart = PerformanceTracker.startOperation();
+
+        int minValue = minMaxHeap.peekMin();
+        int maxValue = minMaxHeap.peekMax();
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення в IntMinMaxHeap");
+
+        System.out.println("Найменше значення в IntMinMaxHeap: " + minValue);
+        System.out.println("Найбільше значення в IntMinMaxHeap: " + maxValue);
+    }
+
+    /**
+     * Виконує операції peek і poll з обох кінців купи.
+     */
+    private void performMinMaxHeapOperations() {
+        if (minMaxHeap == null || minMaxHeap.isEmpty()) {
+            System.out.println("Купа є пустою або не ініціалізованою.");
+            return;
+        }
+
+        System.out.println("Головний елемент купи (peekMin): " + minMaxHeap.peekMin());
+        System.out.println("Видалений елемент купи (pollMin): " + minMaxHeap.pollMin());
+
+        if (!minMaxHeap.isEmpty()) {
+            System.out.println("Видалений найбільший елемент купи (pollMax): " + minMaxHeap.pollMax());
+        }
+        if (!minMaxHeap.isEmpty()) {
+            System.out.println("Новий головний елемент купи: " + minMaxHeap.peekMin() + ", новий найбільший: " + minMaxHeap.peekMax());
+        }
+    }
+
+    private int linearSearchInArray(int value) {
+        for (int i = 0; i < integerArray.length; i++) {
+            if (integerArray[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isArraySorted() {
+        for (int i = 1; i < integerArray.length; i++) {
+            if (integerArray[i - 1] > integerArray[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Клас BasicDataOperationUsingSet реалізує операції з множиною HashSet для Integer.
@@ -14,13 +15,31 @@ import java.util.Set;
  *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
  *   <li>{@link #findInSet()} - Пошук значення в множині Integer.</li>
  *   <li>{@link #locateMinMaxInSet()} - Знаходить мінімальне і максимальне значення в множині.</li>
- *   <li>{@link #analyzeArrayAndSet()} - Аналізує елементи масиву та множини.</li>
+ *   <li>{@link #analyzeArrayAndSet(Predicate, int, String)} - Аналізує елементи масиву та множини.</li>
  * </ul>
+ * 
+ * <p>Режим {@link SetImplementation#INT_HASH_SET} замінює {@code HashSet<Integer>} на
+ * примітивну множину {@link IntHashSet}; в обох режимах виводяться обсяг пам'яті
+ * структури та середня затримка пошуку для порівняння.</p>
  */
 public class BasicDataOperationUsingSet {
+
+    /**
+     * Реалізація множини, з якою працює процесор.
+     */
+    public enum SetImplementation {
+        HASH_SET,
+        INT_HASH_SET
+    }
+
     Integer dateTimeValueToSearch;
     Integer[] integerArray;
     Set<Integer> integerSet = new HashSet<>();
+    IntHashSet intHashSet;
+    private final SetImplementation setImplementation;
+    private final long setMemoryBytes;
+    private IntSortEngine sortEngine = IntSortEngine.fromSystemProperty();
+    private boolean arraySorted;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
@@ -29,9 +48,36 @@ public class BasicDataOperationUsingSet {
      * @param integerArray Масив Integer
      */
     BasicDataOperationUsingSet(Integer dateTimeValueToSearch, Integer[] integerArray) {
+        this(dateTimeValueToSearch, integerArray, SetImplementation.HASH_SET);
+    }
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними та обраною реалізацією множини.
+     * 
+     * @param dateTimeValueToSearch Значення для пошуку
+     * @param integerArray Масив Integer
+     * @param setImplementation Реалізація множини
+     */
+    BasicDataOperationUsingSet(Integer dateTimeValueToSearch, Integer[] integerArray, SetImplementation setImplementation) {
         this.dateTimeValueToSearch = dateTimeValueToSearch;
         this.integerArray = integerArray;
-        this.integerSet = new HashSet<>(Arrays.asList(integerArray));
+        this.setImplementation = setImplementation;
+
+        if (setImplementation == SetImplementation.INT_HASH_SET) {
+            int[] values = new int[integerArray.length];
+            for (int i = 0; i < integerArray.length; i++) {
+                values[i] = integerArray[i];
+            }
+            this.intHashSet = IntHashSet.of(values, loadFactorFromSystemProperty());
+            this.setMemoryBytes = intHashSet.footprintBytes();
+        } else {
+            // розмір HashSet не обчислюється напряму, тож беремо байти, виділені потоком під час побудови
+            // (елементи Integer уже існують у масиві й до них не входять)
+            long allocatedBefore = PerformanceTracker.allocatedBytes();
+            this.integerSet = new HashSet<>(Arrays.asList(integerArray));
+            this.setMemoryBytes = allocatedBefore < 0 ? -1 : PerformanceTracker.allocatedBytes() - allocatedBefore;
+        }
+        this.arraySorted = isArraySorted();
     }
     
     /**
@@ -40,10 +86,21 @@ public class BasicDataOperationUsingSet {
      * Метод завантажує дані, виконує операції з множиною та масивом Integer.
      */
     public void executeDataAnalysis() {
+        System.out.println("Реалізація множини: " + setImplementation);
+        if (setMemoryBytes >= 0) {
+            System.out.println("Обсяг пам'яті множини: " + setMemoryBytes + " байт");
+        }
+
         // спочатку аналізуємо множину дати та часу
-        findInSet();
-        locateMinMaxInSet();
-        analyzeArrayAndSet();
+        if (setImplementation == SetImplementation.INT_HASH_SET) {
+            findInIntHashSet();
+            locateMinMaxInIntHashSet();
+            analyzeArrayAndSet(intHashSet::contains, intHashSet.size(), "IntHashSet");
+        } else {
+            findInSet();
+            locateMinMaxInSet();
+            analyzeArrayAndSet(integerSet::contains, integerSet.size(), "HashSet");
+        }
 
         // потім обробляємо масив
         findInArray();
@@ -58,25 +115,36 @@ public class BasicDataOperationUsingSet {
         DataFileHandler.writeArrayToFile(integerArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
+    /**
+     * Задає стратегію сортування масиву.
+     *
+     * @param strategy Стратегія сортування
+     */
+    void setSortStrategy(IntSortEngine.Strategy strategy) {
+        this.sortEngine = new IntSortEngine(strategy);
+    }
+
     /**
      * Упорядковує масив об'єктів Integer за зростанням.
      * Фіксує та виводить тривалість операції сортування в наносекундах.
      */
     private void performArraySorting() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        Arrays.sort(integerArray);
+        IntSortEngine.Strategy strategy = sortEngine.sort(integerArray);
+        arraySorted = true;
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу", "стратегія " + strategy);
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
+     * Двійковий пошук виконується лише для впорядкованого масиву, інакше — лінійний.
      */
     private void findInArray() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
-        int position = Arrays.binarySearch(this.integerArray, dateTimeValueToSearch);
+        int position = arraySorted ? Arrays.binarySearch(this.integerArray, dateTimeValueToSearch) : linearSearchInArray(dateTimeValueToSearch);
 
         PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
 
@@ -96,7 +164,7 @@ public class BasicDataOperationUsingSet {
             return;
         }
 
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         Integer minValue = integerArray[0];
         Integer maxValue = integerArray[0];
@@ -120,7 +188,7 @@ public class BasicDataOperationUsingSet {
      * Здійснює пошук конкретного значення в множині дати та часу.
      */
     private void findInSet() {
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         boolean elementExists = this.integerSet.contains(dateTimeValueToSearch);
 
@@ -142,7 +210,7 @@ public class BasicDataOperationUsingSet {
             return;
         }
 
-        long timeStart = System.nanoTime();
+        long timeStart = PerformanceTracker.startOperation();
 
         Integer minValue = Collections.min(integerSet);
         Integer maxValue = Collections.max(integerSet);
@@ -154,24 +222,124 @@ public class BasicDataOperationUsingSet {
     }
 
     /**
-     * Аналізує та порівнює елементи масиву та множини.
+     * Здійснює пошук конкретного значення в примітивній множині IntHashSet.
      */
-    private void analyzeArrayAndSet() {
+    private void findInIntHashSet() {
+        long timeStart = PerformanceTracker.startOperation();
+
+        boolean elementExists = intHashSet.contains(dateTimeValueToSearch);
+
+        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в IntHashSet");
+
+        if (elementExists) {
+            System.out.println("Елемент '" + dateTimeValueToSearch + "' знайдено в IntHashSet");
+        } else {
+            System.out.println("Елемент '" + dateTimeValueToSearch + "' відсутній в IntHashSet.");
+        }
+    }
+
+    /**
+     * Визначає найменше та найбільше значення в IntHashSet (підтримуються інкрементально).
+     */
+    private void locateMinMaxInIntHashSet() {
+        if (intHashSet == null || intHashSet.isEmpty()) {
+            System.out.println("IntHashSet є пустим або не ініціалізованим.");
+            return;
+        }
+
+        long timeStart = PerformanceTracker.startOperation();
+
+        int minValue = intHashSet.min();
+        int maxValue = intHashSet.max();
+
+        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмального i максимального значення в IntHashSet");
+
+        System.out.println("Найменше значення в IntHashSet: " + minValue);
+        System.out.println("Найбільше значення в IntHashSet: " + maxValue);
+    }
+
+    /**
+     * Аналізує та порівнює елементи масиву та множини: перевіряє наявність кожного
+     * елемента масиву і виводить середню затримку одного пошуку.
+     *
+     * @param set Перевірка наявності значення в множині
+     * @param setSize Кількість елементів у множині
+     * @param setName Назва множини для звіту
+     */
+    private void analyzeArrayAndSet(Predicate<Integer> set, int setSize, String setName) {
         System.out.println("Кiлькiсть елементiв в масивi: " + integerArray.length);
-        System.out.println("Кiлькiсть елементiв в HashSet: " + integerSet.size());
+        System.out.println("Кiлькiсть елементiв в " + setName + ": " + setSize);
 
+        long timeStart = PerformanceTracker.startOperation();
         boolean allElementsPresent = true;
-        for (Integer dateTimeElement : integerArray) {
-            if (!integerSet.contains(dateTimeElement)) {
-                allElementsPresent = false;
-                break;
+        int lookupCount = 0;
+        LatencyHistogram lookups = null;
+        if (PerformanceTracker.isMetricsOutput()) {
+            // кожен пошук окремо: у звіті буде розподіл затримок, а не лише середнє
+            lookups = new LatencyHistogram();
+            for (Integer dateTimeElement : integerArray) {
+                lookupCount++;
+                long lookupStart = System.nanoTime();
+                boolean present = set.test(dateTimeElement);
+                lookups.recordSince(lookupStart);
+                if (!present) {
+                    allElementsPresent = false;
+                    break;
+                }
+            }
+        } else {
+            for (Integer dateTimeElement : integerArray) {
+                lookupCount++;
+                if (!set.test(dateTimeElement)) {
+                    allElementsPresent = false;
+                    break;
+                }
             }
         }
+        long elapsed = System.nanoTime() - timeStart;
+        // з вимірами кожного пошуку загальний час проходу завищений, тож середнє береться з гістограми
+        long averageLookup = lookups != null ? Math.round(lookups.getMean()) : elapsed / Math.max(lookupCount, 1);
+        PerformanceTracker.displayOperationTime(timeStart, "перевірка всіх елементів масиву в " + setName,
+            "середня затримка пошуку " + averageLookup + " нс");
+        if (lookups != null) {
+            MetricsRegistry.getDefault().timer("пошук кожного елемента в " + setName).add(lookups);
+        }
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в HashSet.");
+            System.out.println("Всi елементи масиву наявні в " + setName + ".");
         } else {
-            System.out.println("Не всi елементи масиву наявні в HashSet.");
+            System.out.println("Не всi елементи масиву наявні в " + setName + ".");
+        }
+    }
+
+    /**
+     * Зчитує коефіцієнт заповнення IntHashSet з властивості {@code -Dset.loadFactor}.
+     *
+     * @return Коефіцієнт заповнення або стандартне значення
+     */
+    static float loadFactorFromSystemProperty() {
+        String value = System.getProperty("set.loadFactor");
+        if (value == null || value.isBlank()) {
+            return IntHashSet.DEFAULT_LOAD_FACTOR;
+        }
+        return Float.parseFloat(value.trim());
+    }
+
+    private int linearSearchInArray(int value) {
+        for (int i = 0; i < integerArray.length; i++) {
+            if (integerArray[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isArraySorted() {
+        for (int i = 1; i < integerArray.length; i++) {
+            if (integerArray[i - 1] > integerArray[i]) {
+                return false;
+            }
         }
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,329 @@
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Клас BatchMembershipQuery відповідає на пакет запитів «чи є значення в наборі даних».
+ *
+ * <p>Набір даних сортується один раз під час створення, після чого кожен пакет
+ * обробляється однією з двох стратегій:</p>
+ * <ul>
+ *   <li>{@link Strategy#MERGE_JOIN} — запити сортуються разом зі своїми номерами і
+ *       зливаються з відсортованими даними; курсор у даних просувається галопом,
+ *       тому пакет коштує O(p log p + p log(n/p)) і дає позиції знайдених значень;</li>
+ *   <li>{@link Strategy#HASH_PROBE} — запити перевіряються в {@link IntHashSet},
+ *       побудованому з даних при першому використанні; результат — лише бітова карта.</li>
+ * </ul>
+ *
+ * <p>Пакет ділиться на діапазони, які обробляються паралельно в ForkJoinPool.
+ * Результат завжди подається в порядку вихідних запитів.</p>
+ */
+public final class BatchMembershipQuery {
+
+    /**
+     * Стратегія обробки пакета запитів.
+     */
+    public enum Strategy {
+        AUTO,
+        MERGE_JOIN,
+        HASH_PROBE
+    }
+
+    // менші діапазони обробляються в одному завданні; кратно 64 для вирівнювання слів бітової карти
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private final int[] sortedData;
+    private final ForkJoinPool pool;
+    private volatile IntHashSet hashIndex;
+
+    /**
+     * Конструктор, який будує запитуваний набір у спільному пулі потоків.
+     *
+     * @param data Значення набору даних (масив не змінюється)
+     */
+    public BatchMembershipQuery(int[] data) {
+        this(data, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Конструктор, який будує запитуваний набір у заданому пулі потоків.
+     *
+     * @param data Значення набору даних (масив не змінюється)
+     * @param pool Пул потоків для обробки пакетів
+     */
+    public BatchMembershipQuery(int[] data, ForkJoinPool pool) {
+        this.sortedData = data.clone();
+        this.pool = pool;
+        if (!isSorted(sortedData)) {
+            new IntSortEngine(IntSortEngine.Strategy.AUTO).sort(sortedData);
+        }
+    }
+
+    /**
+     * Кількість значень у наборі даних.
+     *
+     * @return Кількість значень
+     */
+    public int size() {
+        return sortedData.length;
+    }
+
+    /**
+     * Визначає стратегію для пакета заданого розміру.
+     *
+     * <p>Хеш-індекс окуповується, коли він уже побудований або пакет не менший за сам
+     * набір даних; інакше злиття з галопом дешевше за побудову таблиці.</p>
+     *
+     * @param strategy Запитана стратегія
+     * @param probeCount Кількість запитів у пакеті
+     * @param withPositions Чи потрібні позиції знайдених значень
+     * @return Конкретна стратегія
+     */
+    public Strategy resolve(Strategy strategy, int probeCount, boolean withPositions) {
+        if (withPositions) {
+            return Strategy.MERGE_JOIN;
+        }
+        if (strategy != Strategy.AUTO) {
+            return strategy;
+        }
+        return hashIndex != null || probeCount >= sortedData.length ? Strategy.HASH_PROBE : Strategy.MERGE_JOIN;
+    }
+
+    /**
+     * Перевіряє пакет запитів.
+     *
+     * @param probes Значення запитів у довільному порядку
+     * @param strategy Стратегія обробки
+     * @param withPositions Чи обчислювати позиції (вимагає {@link Strategy#MERGE_JOIN})
+     * @return Результат у порядку запитів
+     */
+    public Result query(int[] probes, Strategy strategy, boolean withPositions) {
+        Strategy resolvedStrategy = resolve(strategy, probes.length, withPositions);
+        long[] bitmap = new long[(probes.length + 63) >>> 6];
+
+        if (resolvedStrategy == Strategy.HASH_PROBE) {
+            pool.invoke(new HashProbeTask(hashIndex(), probes, bitmap, 0, probes.length));
+            return new Result(resolvedStrategy, probes.length, bitmap, null);
+        }
+
+        long[] sortedProbes = new long[probes.length];
+        for (int i = 0; i < probes.length; i++) {
+            // значення у старших 32 бітах зі знаком, номер запиту — у молодших
+            sortedProbes[i] = ((long) probes[i] << 32) | (i & 0xFFFFFFFFL);
+        }
+        if (probes.length >= IntSortEngine.PARALLEL_THRESHOLD && pool.getParallelism() > 1) {
+            Arrays.parallelSort(sortedProbes);
+        } else {
+            Arrays.sort(sortedProbes);
+        }
+
+        int[] positions = new int[probes.length];
+        pool.invoke(new MergeJoinTask(sortedData, sortedProbes, positions, 0, probes.length));
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] >= 0) {
+                bitmap[i >>> 6] |= 1L << i;
+            }
+        }
+        return new Result(resolvedStrategy, probes.length, bitmap, withPositions ? positions : null);
+    }
+
+    private synchronized IntHashSet hashIndex() {
+        if (hashIndex == null) {
+            hashIndex = IntHashSet.of(sortedData, IntHashSet.DEFAULT_LOAD_FACTOR);
+        }
+        return hashIndex;
+    }
+
+    /**
+     * Знаходить першу позицію, де значення не менше за шукане, починаючи з курсора.
+     *
+     * <p>Крок зростає вдвічі, доки не перескочить шукане значення, а потім діапазон
+     * звужується двійковим пошуком — тому близькі запити коштують O(1), далекі O(log d).</p>
+     */
+    static int gallopLowerBound(int[] data, int start, int value) {
+        if (start >= data.length || data[start] >= value) {
+            return start;
+        }
+        int step = 1;
+        while (start + step < data.length && data[start + step] < value) {
+            step <<= 1;
+        }
+        int low = start + (step >>> 1) + 1;
+        int high = Math.min(start + step, data.length);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (data[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isSorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Результат пакетного запиту в порядку вихідних запитів.
+     */
+    public static final class Result {
+        private final Strategy strategy;
+        private final int probeCount;
+        private final long[] bitmap;
+        private final int[] positions;
+
+        private Result(Strategy strategy, int probeCount, long[] bitmap, int[] positions) {
+            this.strategy = strategy;
+            this.probeCount = probeCount;
+            this.bitmap = bitmap;
+            this.positions = positions;
+        }
+
+        public Strategy getStrategy() {
+            return strategy;
+        }
+
+        public int getProbeCount() {
+            return probeCount;
+        }
+
+        public boolean hasPositions() {
+            return positions != null;
+        }
+
+        /**
+         * Чи знайдено значення запиту з заданим номером.
+         *
+         * @param probeIndex Номер запиту
+         * @return true, якщо значення є в наборі даних
+         */
+        public boolean isFound(int probeIndex) {
+            return (bitmap[probeIndex >>> 6] & (1L << probeIndex)) != 0;
+        }
+
+        /**
+         * Позиція першого входження значення запиту у відсортованих даних.
+         *
+         * @param probeIndex Номер запиту
+         * @return Позиція або -1, якщо значення відсутнє
+         * @throws IllegalStateException якщо позиції не обчислювалися
+         */
+        public int getPosition(int probeIndex) {
+            if (positions == null) {
+                throw new IllegalStateException("Позиції не обчислювалися для стратегії " + strategy);
+            }
+            return positions[probeIndex];
+        }
+
+        /**
+         * Кількість знайдених запитів.
+         *
+         * @return Кількість одиниць у бітовій карті
+         */
+        public int getFoundCount() {
+            int foundCount = 0;
+            for (long word : bitmap) {
+                foundCount += Long.bitCount(word);
+            }
+            return foundCount;
+        }
+
+        /**
+         * Атомарно записує результат у текстовий файл, по рядку на запит:
+         * позицію (або -1), якщо позиції обчислено, інакше 1/0 з бітової карти.
+         *
+         * @param filePath Шлях до файлу результатів
+         * @throws IOException якщо запис не вдався
+         */
+        public void writeToFile(String filePath) throws IOException {
+            try (AtomicFileWriter fileWriter = new AtomicFileWriter(filePath)) {
+                for (int i = 0; i < probeCount; i++) {
+                    fileWriter.writeLine(positions != null ? positions[i] : (isFound(i) ? 1 : 0));
+                }
+                fileWriter.commit();
+            }
+        }
+    }
+
+    /**
+     * Зливає діапазон відсортованих запитів з даними, записуючи позиції за номерами запитів.
+     */
+    private static final class MergeJoinTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient int[] sortedData;
+        private final transient long[] sortedProbes;
+        private final transient int[] positions;
+        private final int from;
+        private final int to;
+
+        MergeJoinTask(int[] sortedData, long[] sortedProbes, int[] positions, int from, int to) {
+            this.sortedData = sortedData;
+            this.sortedProbes = sortedProbes;
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MergeJoinTask(sortedData, sortedProbes, positions, from, middle),
+                        new MergeJoinTask(sortedData, sortedProbes, positions, middle, to));
+                return;
+            }
+            int cursor = 0;
+            for (int i = from; i < to; i++) {
+                int value = (int) (sortedProbes[i] >> 32);
+                cursor = gallopLowerBound(sortedData, cursor, value);
+                positions[(int) sortedProbes[i]] = cursor < sortedData.length && sortedData[cursor] == value ? cursor : -1;
+            }
+        }
+    }
+
+    /**
+     * Перевіряє діапазон запитів у хеш-індексі; межі діапазонів кратні 64,
+     * тому кожне слово бітової карти записує лише одне завдання.
+     */
+    private static final class HashProbeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient IntHashSet hashIndex;
+        private final transient int[] probes;
+        private final transient long[] bitmap;
+        private final int from;
+        private final int to;
+
+        HashProbeTask(IntHashSet hashIndex, int[] probes, long[] bitmap, int from, int to) {
+            this.hashIndex = hashIndex;
+            this.probes = probes;
+            this.bitmap = bitmap;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SEQUENTIAL_THRESHOLD) {
+                int middle = ((from + to) >>> 1) & ~63;
+                invokeAll(new HashProbeTask(hashIndex, probes, bitmap, from, middle),
+                        new HashProbeTask(hashIndex, probes, bitmap, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (hashIndex.contains(probes[i])) {
+                    bitmap[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+    }
+}
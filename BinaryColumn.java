@@ -0,0 +1,229 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Клас BinaryColumn описує компактний двійковий колонковий формат файлів даних.
+ *
+ * <p>Файл складається із заголовка фіксованої довжини {@link #HEADER_SIZE} байтів
+ * і суцільного масиву значень у порядку little-endian:</p>
+ * <pre>
+ * зміщення  розмір  поле
+ *  0        4       сигнатура "BCOL"
+ *  4        1       версія формату
+ *  5        1       код типу елементів ({@link ColumnType})
+ *  6        1       прапорці (біт 0 — значення відсортовані)
+ *  7        1       резерв
+ *  8        8       кількість значень
+ * 16        8       мінімальне значення (для дробових типів — біти double)
+ * 24        8       максимальне значення (для дробових типів — біти double)
+ * 32        ...     значення
+ * </pre>
+ *
+ * <p>Екземпляр класу — це представлення вже відображеного в пам'ять файлу:
+ * значення читаються напряму з буфера без копіювання і розбору рядків.</p>
+ */
+public class BinaryColumn {
+    static final int MAGIC = 0x4C4F4342; // "BCOL" у little-endian
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final byte FLAG_SORTED = 1;
+
+    // ======= ТИПИ ЕЛЕМЕНТІВ КОЛОНКИ =======
+    public enum ColumnType {
+        INT8(1, 1),
+        INT16(2, 2),
+        INT32(3, 4),
+        INT64(4, 8),
+        FLOAT32(5, 4),
+        FLOAT64(6, 8),
+        CHAR16(7, 2);
+
+        private final byte code;
+        private final int width;
+
+        ColumnType(int code, int width) {
+            this.code = (byte) code;
+            this.width = width;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        static ColumnType fromCode(byte code) {
+            for (ColumnType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Невідомий код типу колонки: " + code);
+        }
+    }
+
+    private final ByteBuffer data;
+    private final ColumnType type;
+    private final int count;
+    private final boolean sorted;
+    private final long min;
+    private final long max;
+
+    /**
+     * Конструктор, який розбирає заголовок та перевіряє розмір буфера.
+     *
+     * @param buffer Буфер з усім вмістом файлу (зазвичай MappedByteBuffer)
+     */
+    BinaryColumn(ByteBuffer buffer) {
+        ByteBuffer header = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (header.remaining() < HEADER_SIZE || header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Файл не є двійковою колонкою BCOL");
+        }
+        if (header.get(4) != VERSION) {
+            throw new IllegalArgumentException("Непідтримувана версія формату: " + header.get(4));
+        }
+        this.type = ColumnType.fromCode(header.get(5));
+        this.sorted = (header.get(6) & FLAG_SORTED) != 0;
+        long declaredCount = header.getLong(8);
+        this.min = header.getLong(16);
+        this.max = header.getLong(24);
+
+        long expectedSize = HEADER_SIZE + declaredCount * type.getWidth();
+        if (declaredCount < 0 || declaredCount > Integer.MAX_VALUE || expectedSize > header.limit()) {
+            throw new IllegalArgumentException("Пошкоджений файл колонки: " + declaredCount + " значень не вміщується у " + header.limit() + " байтів");
+        }
+        this.count = (int) declaredCount;
+
+        header.position(HEADER_SIZE).limit((int) expectedSize);
+        this.data = header.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Заповнює заголовок колонки у буфері, починаючи з позиції 0.
+     *
+     * @param buffer Буфер у порядку little-endian
+     * @param type Тип елементів
+     * @param count Кількість значень
+     * @param sorted Чи відсортовані значення
+     * @param min Мінімальне значення
+     * @param max Максимальне значення
+     */
+    static void writeHeader(ByteBuffer buffer, ColumnType type, long count, boolean sorted, long min, long max) {
+        buffer.putInt(0, MAGIC);
+        buffer.put(4, VERSION);
+        buffer.put(5, type.getCode());
+        buffer.put(6, sorted ? FLAG_SORTED : 0);
+        buffer.put(7, (byte) 0);
+        buffer.putLong(8, count);
+        buffer.putLong(16, min);
+        buffer.putLong(24, max);
+    }
+
+    public ColumnType getType() {
+        return type;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Повертає значення типу INT32 за індексом без копіювання даних.
+     *
+     * @param index Індекс значення
+     * @return Значення int
+     */
+    public int getInt(int index) {
+        return data.getInt(index << 2);
+    }
+
+    /**
+     * Повертає значення типу INT64 за індексом без копіювання даних.
+     *
+     * @param index Індекс значення
+     * @return Значення long
+     */
+    public long getLong(int index) {
+        return data.getLong(index << 3);
+    }
+
+    /**
+     * Повертає представлення колонки INT32 як IntBuffer поверх відображеної пам'яті.
+     *
+     * @return IntBuffer без копіювання
+     */
+    public IntBuffer asIntBuffer() {
+        requireType(ColumnType.INT32);
+        return data.asIntBuffer();
+    }
+
+    /**
+     * Повертає представлення колонки INT64 як LongBuffer поверх відображеної пам'яті.
+     *
+     * @return LongBuffer без копіювання
+     */
+    public LongBuffer asLongBuffer() {
+        requireType(ColumnType.INT64);
+        return data.asLongBuffer();
+    }
+
+    /**
+     * Копіює колонку INT32 у масив int, коли потрібне подальше змінювання даних.
+     *
+     * @return Новий масив int
+     */
+    public int[] toIntArray() {
+        int[] resultArray = new int[count];
+        asIntBuffer().get(resultArray);
+        return resultArray;
+    }
+
+    /**
+     * Двійковий пошук у відсортованій колонці INT32 прямо у відображеній пам'яті.
+     *
+     * @param key Значення для пошуку
+     * @return Індекс значення або (-(точка вставки) - 1), як у Arrays.binarySearch
+     */
+    public int binarySearchInt(int key) {
+        requireType(ColumnType.INT32);
+        if (!sorted) {
+            throw new IllegalStateException("Двійковий пошук можливий лише у відсортованій колонці");
+        }
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleValue = getInt(middle);
+            if (middleValue < key) {
+                low = middle + 1;
+            } else if (middleValue > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void requireType(ColumnType expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Колонка має тип " + type + ", очікувався " + expected);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Клас BoundedCache — кеш обмеженого розміру для «гарячих» ключів перед повним реєстром.
+ *
+ * <p>При промаху значення завантажується функцією-завантажувачем (наприклад,
+ * {@code hashtable::get}) і кладеться в кеш; коли кеш заповнений, запис витісняється
+ * за однією з політик:</p>
+ * <ul>
+ *   <li>{@link EvictionPolicy#LRU} — LinkedHashMap у порядку доступу, витіснення
+ *       найдавніше використаного запису через {@code removeEldestEntry};</li>
+ *   <li>{@link EvictionPolicy#CLOCK} — наближення LRU з одним бітом звернення на комірку:
+ *       попадання лише ставить біт і не переставляє вузли списку, а «стрілка» при
+ *       витісненні скидає біти, доки не знайде запис без звернень.</li>
+ * </ul>
+ *
+ * <p>Лічильники попадань, промахів і витіснень дозволяють підібрати місткість під
+ * реальний розподіл запитів. Значення null не кешуються. Клас не потокобезпечний,
+ * як і LinkedHashMap; після зміни реєстру застарілий ключ слід скинути через
+ * {@link #invalidate(Object)}.</p>
+ *
+ * @param <K> Тип ключа
+ * @param <V> Тип значення
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * Політика витіснення.
+     */
+    public enum EvictionPolicy {
+        LRU,
+        CLOCK
+    }
+
+    private final int capacity;
+    private final EvictionPolicy policy;
+    private final Function<? super K, ? extends V> loader;
+
+    // LRU
+    private final LinkedHashMap<K, V> lruEntries;
+
+    // CLOCK: кільце комірок, індекс ключ → комірка і стек вільних комірок
+    private final Object[] clockKeys;
+    private final Object[] clockValues;
+    private final boolean[] referenced;
+    private final Map<K, Integer> clockSlots;
+    private final int[] freeSlots;
+    private int freeCount;
+    private int hand;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Конструктор, який створює порожній кеш.
+     *
+     * @param capacity Максимальна кількість записів (більше нуля)
+     * @param policy Політика витіснення
+     * @param loader Функція, що повертає значення з реєстру при промаху (або null)
+     */
+    public BoundedCache(int capacity, EvictionPolicy policy, Function<? super K, ? extends V> loader) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Місткість кешу має бути більшою за нуль: " + capacity);
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.loader = loader;
+        if (policy == EvictionPolicy.LRU) {
+            this.lruEntries = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > BoundedCache.this.capacity) {
+                        evictionCount++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+            this.clockKeys = null;
+            this.clockValues = null;
+            this.referenced = null;
+            this.clockSlots = null;
+            this.freeSlots = null;
+        } else {
+            this.lruEntries = null;
+            this.clockKeys = new Object[capacity];
+            this.clockValues = new Object[capacity];
+            this.referenced = new boolean[capacity];
+            this.clockSlots = new HashMap<>();
+            this.freeSlots = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                freeSlots[i] = capacity - 1 - i;
+            }
+            this.freeCount = capacity;
+        }
+    }
+
+    /**
+     * Повертає значення з кешу або завантажує його з реєстру.
+     *
+     * @param key Ключ
+     * @return Значення або null, якщо його немає і в реєстрі
+     */
+    public V get(K key) {
+        V value = lookup(key);
+        if (value != null) {
+            hitCount++;
+            return value;
+        }
+        missCount++;
+        value = loader.apply(key);
+        if (value != null) {
+            store(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Прибирає ключ із кешу (без зміни лічильників).
+     *
+     * @param key Ключ
+     */
+    public void invalidate(K key) {
+        if (policy == EvictionPolicy.LRU) {
+            lruEntries.remove(key);
+            return;
+        }
+        Integer slot = clockSlots.remove(key);
+        if (slot != null) {
+            clearSlot(slot);
+            freeSlots[freeCount++] = slot;
+        }
+    }
+
+    public int size() {
+        return policy == EvictionPolicy.LRU ? lruEntries.size() : clockSlots.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public EvictionPolicy policy() {
+        return policy;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Частка попадань серед усіх запитів.
+     *
+     * @return Значення від 0 до 1 (0, якщо запитів ще не було)
+     */
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Обнуляє лічильники, не чіпаючи вмісту кешу (наприклад, після прогріву).
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[місткість=%d, розмір=%d, попадань=%d, промахів=%d, витіснень=%d, hit rate=%.1f%%]",
+            policy, capacity, size(), hitCount, missCount, evictionCount, hitRate() * 100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V lookup(K key) {
+        if (policy == EvictionPolicy.LRU) {
+            return lruEntries.get(key);
+        }
+        Integer slot = clockSlots.get(key);
+        if (slot == null) {
+            return null;
+        }
+        referenced[slot] = true;
+        return (V) clockValues[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void store(K key, V value) {
+        if (policy == EvictionPolicy.LRU) {
+            lruEntries.put(key, value);
+            return;
+        }
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            // друга спроба для записів, до яких зверталися після минулого проходу стрілки
+            while (referenced[hand]) {
+                referenced[hand] = false;
+                hand = (hand + 1) % capacity;
+            }
+            slot = hand;
+            hand = (hand + 1) % capacity;
+            clockSlots.remove((K) clockKeys[slot]);
+            evictionCount++;
+        }
+        clockKeys[slot] = key;
+        clockValues[slot] = value;
+        // новий запис не отримує біта звернення, тож одноразові ключі витісняються першими
+        referenced[slot] = false;
+        clockSlots.put(key, slot);
+    }
+
+    private void clearSlot(int slot) {
+        clockKeys[slot] = null;
+        clockValues[slot] = null;
+        referenced[slot] = false;
+    }
+}
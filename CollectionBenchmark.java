@@ -0,0 +1,885 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.Vector;
+
+/**
+ * Клас CollectionBenchmark — набір мікробенчмарків для операцій процесорів List/Queue/Set/Map.
+ *
+ * <p>{@link PerformanceTracker#displayOperationTime(long, String)} міряє один «холодний»
+ * виклик, тож результат тоне в прогріві JIT, усуненні мертвого коду та паузах збирача
+ * сміття. Тут кожна операція виконується за методикою JMH:</p>
+ * <ul>
+ *   <li>ітерації прогріву, результати яких відкидаються, і кілька вимірювальних ітерацій
+ *       фіксованої тривалості; звіт — середнє ± стандартне відхилення в нс/оп;</li>
+ *   <li>результат кожного виклику накопичується і публікується у volatile-поле, щоб JIT
+ *       не викинув обчислення;</li>
+ *   <li>кожна комбінація бенчмарк × розмір × розподіл за замовчуванням виконується в
+ *       окремій JVM (fork), щоб профіль JIT однієї операції не впливав на інші;</li>
+ *   <li>операції, що змінюють дані (сортування, poll), готують свіжу копію поза виміром
+ *       і вимірюються по одному виклику; додавання й видалення з мап і реєстрів вимірюються
+ *       парою «додати → видалити», тож розмір структури між викликами не змінюється.</li>
+ * </ul>
+ *
+ * <p>Використання:</p>
+ * <pre>
+ * java CollectionBenchmark [-f форків] [-wi ітерацій-прогріву] [-i ітерацій] [-r мс-на-ітерацію]
+ *                          [-s розмір,розмір,...] [-d SORTED,RANDOM,DUPLICATES] [фільтр-назви]
+ * </pre>
+ * <p>Наприклад, {@code java CollectionBenchmark -s 100000 -d RANDOM Set.} запускає лише
+ * бенчмарки множин. Значення {@code -f 0} виконує все в поточній JVM (швидше, але менш точно).</p>
+ */
+public class CollectionBenchmark {
+
+    /**
+     * Розподіл значень у наборі даних.
+     */
+    public enum Distribution {
+        SORTED,
+        RANDOM,
+        DUPLICATES
+    }
+
+    /**
+     * Спосіб виміру операції.
+     */
+    enum Mode {
+        // швидкі операції без змін даних: багато викликів на одне зчитування часу
+        BATCH,
+        // операції, що змінюють дані: підготовка поза виміром, вимір кожного виклику окремо
+        SINGLE_SHOT
+    }
+
+    private static final String CHILD_OPTION = "--child";
+    private static final String RESULT_PREFIX = "RESULT ";
+    private static final int PROBE_COUNT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 16;
+    private static final long SEED = 42;
+    // власник, якого немає в даних: видалення за значенням зачіпає лише щойно додану качку
+    private static final String TEMPORARY_OWNER = "Тимчасовий-власник";
+
+    // споживач результатів: не дає JIT вважати обчислення мертвим кодом
+    private static volatile long sink;
+
+    private int forks = 1;
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private long iterationMillis = 200;
+    private int[] sizes = {1_000, 100_000, 1_000_000};
+    private Distribution[] distributions = Distribution.values();
+    private String filter = "";
+
+    /**
+     * Операція бенчмарку над підготовленим набором даних.
+     */
+    abstract static class Operation {
+        /**
+         * Підготовка перед викликом у режимі SINGLE_SHOT (не входить у вимір).
+         */
+        void prepare() {
+        }
+
+        /**
+         * Виконує операцію один раз.
+         *
+         * @param invocation Номер виклику (для вибору значення пошуку)
+         * @return Значення, що залежить від результату
+         */
+        abstract long invoke(int invocation);
+    }
+
+    /**
+     * Фабрика операції для заданого набору даних.
+     */
+    interface OperationFactory {
+        Operation create(Dataset dataset);
+    }
+
+    /**
+     * Опис бенчмарку: назва у вигляді «Група.операція», спосіб виміру та фабрика.
+     */
+    static final class Benchmark {
+        final String name;
+        final Mode mode;
+        final OperationFactory factory;
+
+        Benchmark(String name, Mode mode, OperationFactory factory) {
+            this.name = name;
+            this.mode = mode;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Набір даних одного розміру й розподілу, спільний для всіх структур.
+     */
+    static final class Dataset {
+        final int[] values;
+        final Integer[] boxed;
+        final int[] probes;
+        final BasicDataOperationUsingMap.Duck[] ducks;
+        final String[] owners;
+        final BasicDataOperationUsingMap.Duck[] duckProbes;
+        final String[] ownerProbes;
+
+        Dataset(int size, Distribution distribution) {
+            Random random = new Random(SEED);
+            int range = distribution == Distribution.DUPLICATES ? Math.max(1, size / 100) : size * 4;
+            values = new int[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(range);
+            }
+            if (distribution == Distribution.SORTED) {
+                Arrays.sort(values);
+            }
+            boxed = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                boxed[i] = values[i];
+            }
+
+            // половина запитів знаходить значення, половина — ні (значення поза діапазоном)
+            probes = new int[PROBE_COUNT];
+            for (int i = 0; i < PROBE_COUNT; i++) {
+                probes[i] = (i & 1) == 0 ? values[random.nextInt(size)] : range + random.nextInt(range);
+            }
+
+            int ownerCount = distribution == Distribution.DUPLICATES ? 10 : Math.max(1, size / 10);
+            ducks = new BasicDataOperationUsingMap.Duck[size];
+            owners = new String[size];
+            for (int i = 0; i < size; i++) {
+                ducks[i] = new BasicDataOperationUsingMap.Duck("Качка-" + values[i], i);
+                owners[i] = "Власник-" + (values[i] % ownerCount);
+            }
+            duckProbes = new BasicDataOperationUsingMap.Duck[PROBE_COUNT];
+            ownerProbes = new String[PROBE_COUNT];
+            for (int i = 0; i < PROBE_COUNT; i++) {
+                duckProbes[i] = (i & 1) == 0 ? ducks[random.nextInt(size)]
+                    : new BasicDataOperationUsingMap.Duck("Качка-" + values[random.nextInt(size)], size + i);
+                ownerProbes[i] = "Власник-" + random.nextInt(ownerCount * 2);
+            }
+        }
+
+        int probe(int invocation) {
+            return probes[invocation & (PROBE_COUNT - 1)];
+        }
+
+        BasicDataOperationUsingMap.Duck duckProbe(int invocation) {
+            return duckProbes[invocation & (PROBE_COUNT - 1)];
+        }
+
+        String ownerProbe(int invocation) {
+            return ownerProbes[invocation & (PROBE_COUNT - 1)];
+        }
+
+        Hashtable<BasicDataOperationUsingMap.Duck, String> hashtable() {
+            Hashtable<BasicDataOperationUsingMap.Duck, String> hashtable = new Hashtable<>(ducks.length * 2);
+            for (int i = 0; i < ducks.length; i++) {
+                hashtable.put(ducks[i], owners[i]);
+            }
+            return hashtable;
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals(CHILD_OPTION)) {
+            runChild(args);
+            return;
+        }
+        CollectionBenchmark benchmark = new CollectionBenchmark();
+        benchmark.parseOptions(args);
+        benchmark.runAll();
+    }
+
+    // ============================================================
+    //                   ПЕРЕЛІК БЕНЧМАРКІВ
+    // ============================================================
+
+    static List<Benchmark> benchmarks() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+
+        // ===== List: масив Integer, Vector (TrackedList), IntVector =====
+        benchmarks.add(new Benchmark("List.масив.сортування", Mode.SINGLE_SHOT, data -> new Operation() {
+            final IntSortEngine sortEngine = IntSortEngine.fromSystemProperty();
+            Integer[] copy;
+
+            @Override
+            void prepare() {
+                copy = data.boxed.clone();
+            }
+
+            @Override
+            long invoke(int invocation) {
+                sortEngine.sort(copy);
+                return copy[copy.length / 2];
+            }
+        }));
+        benchmarks.add(new Benchmark("List.масив.пошук", Mode.BATCH, data -> new Operation() {
+            final boolean sorted = isSorted(data.values);
+
+            @Override
+            long invoke(int invocation) {
+                int value = data.probe(invocation);
+                return sorted ? Arrays.binarySearch(data.boxed, value) : linearSearch(data.boxed, value);
+            }
+        }));
+        benchmarks.add(new Benchmark("List.масив.мін-макс", Mode.BATCH, data -> new Operation() {
+            @Override
+            long invoke(int invocation) {
+                int min = data.boxed[0];
+                int max = data.boxed[0];
+                for (Integer value : data.boxed) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+                return min + max;
+            }
+        }));
+        benchmarks.add(new Benchmark("List.Vector.пошук", Mode.BATCH, data -> new Operation() {
+            final TrackedList<Integer> list = new TrackedList<>(new Vector<>(Arrays.asList(data.boxed)));
+
+            @Override
+            long invoke(int invocation) {
+                return list.find(data.probe(invocation));
+            }
+        }));
+        benchmarks.add(new Benchmark("List.Vector.мін-макс", Mode.BATCH, data -> new Operation() {
+            final TrackedList<Integer> list = new TrackedList<>(new Vector<>(Arrays.asList(data.boxed)));
+
+            @Override
+            long invoke(int invocation) {
+                return list.min() + list.max();
+            }
+        }));
+        benchmarks.add(new Benchmark("List.Vector.сортування", Mode.SINGLE_SHOT, data -> new Operation() {
+            TrackedList<Integer> list;
+
+            @Override
+            void prepare() {
+                list = new TrackedList<>(new Vector<>(Arrays.asList(data.boxed)));
+            }
+
+            @Override
+            long invoke(int invocation) {
+                list.sort();
+                return list.get(list.size() / 2);
+            }
+        }));
+        benchmarks.add(new Benchmark("List.IntVector.пошук", Mode.BATCH, data -> new Operation() {
+            final IntVector vector = new IntVector(data.values);
+
+            @Override
+            long invoke(int invocation) {
+                return vector.find(data.probe(invocation));
+            }
+        }));
+        benchmarks.add(new Benchmark("List.IntVector.мін-макс", Mode.BATCH, data -> new Operation() {
+            final IntVector vector = new IntVector(data.values);
+
+            @Override
+            long invoke(int invocation) {
+                return (long) vector.min() + vector.max();
+            }
+        }));
+        benchmarks.add(new Benchmark("List.IntVector.сортування", Mode.SINGLE_SHOT, data -> new Operation() {
+            IntVector vector;
+
+            @Override
+            void prepare() {
+                vector = new IntVector(data.values);
+            }
+
+            @Override
+            long invoke(int invocation) {
+                vector.sort();
+                return vector.get(vector.size() / 2);
+            }
+        }));
+
+        // ===== Queue: PriorityQueue та IntMinMaxHeap =====
+        benchmarks.add(new Benchmark("Queue.PriorityQueue.пошук", Mode.BATCH, data -> new Operation() {
+            final PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                return queue.contains(data.probe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Queue.PriorityQueue.мін-макс", Mode.BATCH, data -> new Operation() {
+            final PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                return Collections.min(queue) + Collections.max(queue);
+            }
+        }));
+        benchmarks.add(new Benchmark("Queue.PriorityQueue.poll-offer", Mode.BATCH, data -> new Operation() {
+            final PriorityQueue<Integer> queue = new PriorityQueue<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                // повернення елемента зберігає розмір черги між викликами
+                Integer head = queue.poll();
+                queue.offer(head);
+                return head;
+            }
+        }));
+        benchmarks.add(new Benchmark("Queue.IntMinMaxHeap.пошук", Mode.BATCH, data -> new Operation() {
+            final IntMinMaxHeap heap = IntMinMaxHeap.of(data.values, true);
+
+            @Override
+            long invoke(int invocation) {
+                return heap.contains(data.probe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Queue.IntMinMaxHeap.мін-макс", Mode.BATCH, data -> new Operation() {
+            final IntMinMaxHeap heap = IntMinMaxHeap.of(data.values, true);
+
+            @Override
+            long invoke(int invocation) {
+                return (long) heap.peekMin() + heap.peekMax();
+            }
+        }));
+        benchmarks.add(new Benchmark("Queue.IntMinMaxHeap.poll-add", Mode.BATCH, data -> new Operation() {
+            final IntMinMaxHeap heap = IntMinMaxHeap.of(data.values, true);
+
+            @Override
+            long invoke(int invocation) {
+                int head = heap.pollMin();
+                heap.add(head);
+                return head;
+            }
+        }));
+
+        // ===== Set: HashSet та IntHashSet =====
+        benchmarks.add(new Benchmark("Set.HashSet.пошук", Mode.BATCH, data -> new Operation() {
+            final Set<Integer> set = new HashSet<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                return set.contains(data.probe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Set.HashSet.мін-макс", Mode.BATCH, data -> new Operation() {
+            final Set<Integer> set = new HashSet<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                return Collections.min(set) + Collections.max(set);
+            }
+        }));
+        benchmarks.add(new Benchmark("Set.HashSet.усі-елементи", Mode.BATCH, data -> new Operation() {
+            final Set<Integer> set = new HashSet<>(Arrays.asList(data.boxed));
+
+            @Override
+            long invoke(int invocation) {
+                long found = 0;
+                for (Integer value : data.boxed) {
+                    if (set.contains(value)) {
+                        found++;
+                    }
+                }
+                return found;
+            }
+        }));
+        benchmarks.add(new Benchmark("Set.IntHashSet.пошук", Mode.BATCH, data -> new Operation() {
+            final IntHashSet set = IntHashSet.of(data.values, BasicDataOperationUsingSet.loadFactorFromSystemProperty());
+
+            @Override
+            long invoke(int invocation) {
+                return set.contains(data.probe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Set.IntHashSet.мін-макс", Mode.BATCH, data -> new Operation() {
+            final IntHashSet set = IntHashSet.of(data.values, BasicDataOperationUsingSet.loadFactorFromSystemProperty());
+
+            @Override
+            long invoke(int invocation) {
+                return (long) set.min() + set.max();
+            }
+        }));
+        benchmarks.add(new Benchmark("Set.IntHashSet.усі-елементи", Mode.BATCH, data -> new Operation() {
+            final IntHashSet set = IntHashSet.of(data.values, BasicDataOperationUsingSet.loadFactorFromSystemProperty());
+
+            @Override
+            long invoke(int invocation) {
+                long found = 0;
+                for (int value : data.values) {
+                    if (set.contains(value)) {
+                        found++;
+                    }
+                }
+                return found;
+            }
+        }));
+
+        // ===== Map: Hashtable, LinkedHashMap, TreeMap та реєстри качок =====
+        benchmarks.add(new Benchmark("Map.Hashtable.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map = new ValueIndexedMap<>(data.hashtable());
+
+            @Override
+            long invoke(int invocation) {
+                return map.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.Hashtable.пошук-за-значенням", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map = new ValueIndexedMap<>(data.hashtable());
+
+            @Override
+            long invoke(int invocation) {
+                return map.keysForValue(data.ownerProbe(invocation)).size();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.Hashtable.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map = new ValueIndexedMap<>(data.hashtable());
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, data.ownerProbe(invocation));
+                return map.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.Hashtable.видалення-за-значенням", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map = new ValueIndexedMap<>(data.hashtable());
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, TEMPORARY_OWNER);
+                return map.removeByValue(TEMPORARY_OWNER);
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.LinkedHashMap.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map =
+                new ValueIndexedMap<>(new LinkedHashMap<>(data.hashtable()));
+
+            @Override
+            long invoke(int invocation) {
+                return map.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.LinkedHashMap.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map =
+                new ValueIndexedMap<>(new LinkedHashMap<>(data.hashtable()));
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, data.ownerProbe(invocation));
+                return map.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.LinkedHashMap.видалення-за-значенням", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map =
+                new ValueIndexedMap<>(new LinkedHashMap<>(data.hashtable()));
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, TEMPORARY_OWNER);
+                return map.removeByValue(TEMPORARY_OWNER);
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.TreeMap.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final TreeMap<BasicDataOperationUsingMap.Duck, String> map = new TreeMap<>(data.hashtable());
+
+            @Override
+            long invoke(int invocation) {
+                return map.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.TreeMap.діапазон-префікса", Mode.BATCH, data -> new Operation() {
+            final TreeMap<BasicDataOperationUsingMap.Duck, String> map = new TreeMap<>(data.hashtable());
+
+            @Override
+            long invoke(int invocation) {
+                String prefix = data.duckProbe(invocation).getNickname().substring(0, 7);
+                return BasicDataOperationUsingMap.nicknamePrefixView(map, prefix).isEmpty() ? 0 : 1;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.TreeMap.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map =
+                new ValueIndexedMap<>(new TreeMap<>(data.hashtable()));
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, data.ownerProbe(invocation));
+                return map.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.TreeMap.видалення-за-значенням", Mode.BATCH, data -> new Operation() {
+            final ValueIndexedMap<BasicDataOperationUsingMap.Duck, String> map =
+                new ValueIndexedMap<>(new TreeMap<>(data.hashtable()));
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            @Override
+            long invoke(int invocation) {
+                map.put(added, TEMPORARY_OWNER);
+                return map.removeByValue(TEMPORARY_OWNER);
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.ConcurrentDuckRegistry.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final ConcurrentDuckRegistry registry = new ConcurrentDuckRegistry(data.ducks.length);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.register(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                return registry.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.ConcurrentDuckRegistry.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final ConcurrentDuckRegistry registry = new ConcurrentDuckRegistry(data.ducks.length);
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.register(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                registry.register(added, data.ownerProbe(invocation));
+                return registry.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.ConcurrentDuckRegistry.пошук-за-власником", Mode.BATCH, data -> new Operation() {
+            final ConcurrentDuckRegistry registry = new ConcurrentDuckRegistry(data.ducks.length);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.register(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                return registry.ducksOf(data.ownerProbe(invocation)).size();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.ConcurrentDuckRegistry.видалення-за-власником", Mode.BATCH, data -> new Operation() {
+            final ConcurrentDuckRegistry registry = new ConcurrentDuckRegistry(data.ducks.length);
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.register(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                registry.register(added, TEMPORARY_OWNER);
+                return registry.removeByOwner(TEMPORARY_OWNER);
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.CompactDuckRegistry.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final CompactDuckRegistry registry = new CompactDuckRegistry(data.ducks.length);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                return registry.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.CompactDuckRegistry.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final CompactDuckRegistry registry = new CompactDuckRegistry(data.ducks.length);
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                registry.put(added, data.ownerProbe(invocation));
+                return registry.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.OffHeapDuckRegistry.пошук-за-ключем", Mode.BATCH, data -> new Operation() {
+            final OffHeapDuckRegistry registry = new OffHeapDuckRegistry(data.ducks.length);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                return registry.containsKey(data.duckProbe(invocation)) ? 1 : 0;
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.OffHeapDuckRegistry.додавання-видалення", Mode.BATCH, data -> new Operation() {
+            final OffHeapDuckRegistry registry = new OffHeapDuckRegistry(data.ducks.length);
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                registry.put(added, data.ownerProbe(invocation));
+                return registry.remove(added).length();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.OffHeapDuckRegistry.пошук-за-власником", Mode.BATCH, data -> new Operation() {
+            final OffHeapDuckRegistry registry = new OffHeapDuckRegistry(data.ducks.length);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                return registry.ducksOf(data.ownerProbe(invocation)).size();
+            }
+        }));
+        benchmarks.add(new Benchmark("Map.OffHeapDuckRegistry.видалення-за-власником", Mode.BATCH, data -> new Operation() {
+            final OffHeapDuckRegistry registry = new OffHeapDuckRegistry(data.ducks.length);
+            final BasicDataOperationUsingMap.Duck added = new BasicDataOperationUsingMap.Duck("Кача", -1);
+
+            {
+                for (int i = 0; i < data.ducks.length; i++) {
+                    registry.put(data.ducks[i], data.owners[i]);
+                }
+            }
+
+            @Override
+            long invoke(int invocation) {
+                registry.put(added, TEMPORARY_OWNER);
+                return registry.removeByOwner(TEMPORARY_OWNER);
+            }
+        }));
+        return benchmarks;
+    }
+
+    // ============================================================
+    //                     ЗАПУСК І ВИМІР
+    // ============================================================
+
+    private void parseOptions(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-f":
+                    forks = Integer.parseInt(args[++i]);
+                    break;
+                case "-wi":
+                    warmupIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-i":
+                    measurementIterations = Integer.parseInt(args[++i]);
+                    break;
+                case "-r":
+                    iterationMillis = Long.parseLong(args[++i]);
+                    break;
+                case "-s":
+                    sizes = Arrays.stream(args[++i].split(",")).mapToInt(value -> Integer.parseInt(value.trim())).toArray();
+                    break;
+                case "-d":
+                    distributions = Arrays.stream(args[++i].split(","))
+                        .map(value -> Distribution.valueOf(value.trim().toUpperCase())).toArray(Distribution[]::new);
+                    break;
+                default:
+                    filter = args[i];
+            }
+        }
+        if (measurementIterations <= 0) {
+            throw new IllegalArgumentException("Кількість вимірювальних ітерацій має бути більшою за нуль");
+        }
+    }
+
+    private void runAll() throws IOException, InterruptedException {
+        System.out.printf("Форків: %d, прогрів: %d × %d мс, вимір: %d × %d мс%n",
+            forks, warmupIterations, iterationMillis, measurementIterations, iterationMillis);
+        System.out.printf("%-48s %10s %-10s %16s %14s%n", "Бенчмарк", "Розмір", "Розподіл", "нс/оп", "± ст. відх.");
+
+        List<Benchmark> benchmarks = benchmarks();
+        for (int index = 0; index < benchmarks.size(); index++) {
+            Benchmark benchmark = benchmarks.get(index);
+            if (!benchmark.name.contains(filter)) {
+                continue;
+            }
+            for (int size : sizes) {
+                for (Distribution distribution : distributions) {
+                    double[] results = forks > 0
+                        ? runForks(index, benchmark, size, distribution)
+                        : measure(benchmark, new Dataset(size, distribution), warmupIterations, measurementIterations, iterationMillis);
+                    printResult(benchmark, size, distribution, results);
+                }
+            }
+        }
+    }
+
+    private double[] runForks(int index, Benchmark benchmark, int size, Distribution distribution)
+            throws IOException, InterruptedException {
+        double[] results = new double[0];
+        for (int fork = 0; fork < forks; fork++) {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add("-Dsort.strategy=" + System.getProperty("sort.strategy", ""));
+            command.add("-Dset.loadFactor=" + System.getProperty("set.loadFactor", ""));
+            // Java 17 бере кодування System.out з sun.stdout.encoding (stdout.encoding з'явилася в 18)
+            command.add("-Dsun.stdout.encoding=UTF-8");
+            command.add(CollectionBenchmark.class.getName());
+            command.add(CHILD_OPTION);
+            // номер замість назви: кирилиця в аргументах залежить від кодування системи
+            command.add(Integer.toString(index));
+            command.add(Integer.toString(size));
+            command.add(distribution.name());
+            command.add(Integer.toString(warmupIterations));
+            command.add(Integer.toString(measurementIterations));
+            command.add(Long.toString(iterationMillis));
+
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            double[] forkResults = null;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_PREFIX)) {
+                        forkResults = Arrays.stream(line.substring(RESULT_PREFIX.length()).split(" "))
+                            .mapToDouble(Double::parseDouble).toArray();
+                    } else {
+                        System.out.println(line);
+                    }
+                }
+            }
+            if (process.waitFor() != 0 || forkResults == null) {
+                throw new IllegalStateException("Форк бенчмарку " + benchmark.name + " завершився з помилкою");
+            }
+            int previousLength = results.length;
+            results = Arrays.copyOf(results, previousLength + forkResults.length);
+            System.arraycopy(forkResults, 0, results, previousLength, forkResults.length);
+        }
+        return results;
+    }
+
+    private static void runChild(String[] args) {
+        Benchmark benchmark = benchmarks().get(Integer.parseInt(args[1]));
+        Dataset dataset = new Dataset(Integer.parseInt(args[2]), Distribution.valueOf(args[3]));
+        double[] results = measure(benchmark, dataset,
+            Integer.parseInt(args[4]), Integer.parseInt(args[5]), Long.parseLong(args[6]));
+
+        StringBuilder line = new StringBuilder(RESULT_PREFIX);
+        for (int i = 0; i < results.length; i++) {
+            line.append(i == 0 ? "" : " ").append(results[i]);
+        }
+        System.out.println(line);
+    }
+
+    /**
+     * Виконує ітерації прогріву та виміру однієї операції.
+     *
+     * @return Середній час однієї операції (нс) для кожної вимірювальної ітерації
+     */
+    static double[] measure(Benchmark benchmark, Dataset dataset, int warmupIterations,
+                            int measurementIterations, long iterationMillis) {
+        Operation operation = benchmark.factory.create(dataset);
+        long iterationNanos = iterationMillis * 1_000_000L;
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmark.mode, operation, iterationNanos);
+        }
+        double[] results = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            results[i] = runIteration(benchmark.mode, operation, iterationNanos);
+        }
+        return results;
+    }
+
+    private static double runIteration(Mode mode, Operation operation, long iterationNanos) {
+        long accumulator = 0;
+        long operations = 0;
+        long measuredNanos = 0;
+        long iterationStart = System.nanoTime();
+
+        if (mode == Mode.SINGLE_SHOT) {
+            // хоча б один виклик, навіть якщо підготовка довша за ітерацію
+            do {
+                operation.prepare();
+                long timeStart = System.nanoTime();
+                accumulator += operation.invoke((int) operations);
+                measuredNanos += System.nanoTime() - timeStart;
+                operations++;
+            } while (System.nanoTime() - iterationStart < iterationNanos);
+        } else {
+            // пакет зростає, доки зчитування часу не стане малою часткою виміру
+            int batch = 1;
+            do {
+                for (int i = 0; i < batch; i++) {
+                    accumulator += operation.invoke((int) operations++);
+                }
+                if (batch < MAX_BATCH) {
+                    batch <<= 1;
+                }
+            } while (System.nanoTime() - iterationStart < iterationNanos);
+            measuredNanos = System.nanoTime() - iterationStart;
+        }
+
+        sink = accumulator;
+        return (double) measuredNanos / operations;
+    }
+
+    private static void printResult(Benchmark benchmark, int size, Distribution distribution, double[] results) {
+        double mean = Arrays.stream(results).average().orElse(0);
+        double variance = 0;
+        for (double result : results) {
+            variance += (result - mean) * (result - mean);
+        }
+        double deviation = results.length > 1 ? Math.sqrt(variance / (results.length - 1)) : 0;
+        System.out.println(String.format(Locale.ROOT, "%-48s %10d %-10s %16.2f %14.2f",
+            benchmark.name, size, distribution, mean, deviation));
+    }
+
+    private static boolean isSorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int linearSearch(Integer[] values, int value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,46 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Клас ColumnFileConverter одноразово перетворює текстові файли даних у двійковий колонковий формат.
+ *
+ * <p>Для кожного вказаного файлу поруч створюється файл з суфіксом
+ * {@value DataFileHandler#COLUMN_FILE_SUFFIX}, який далі відкривається через
+ * {@link DataFileHandler#mapColumnFile(String)} без повторного розбору тексту.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java ColumnFileConverter
+ * java ColumnFileConverter list/Integer.data list/LocalDateTime.data
+ * }
+ * </pre>
+ */
+public class ColumnFileConverter {
+
+    public static void main(String[] args) {
+        List<String> textFiles = new ArrayList<>(Arrays.asList(args));
+        if (textFiles.isEmpty()) {
+            // без аргументів конвертуємо всі файли з двійковим представленням
+            for (DataTypeRegistry.DataType<?> dataType : DataTypeRegistry.registeredTypes()) {
+                if (dataType.getColumnType() != null) {
+                    textFiles.add(BasicDataOperation.DATA_DIRECTORY + dataType.getFileName());
+                }
+            }
+        }
+
+        for (String textFilePath : textFiles) {
+            String columnFilePath = textFilePath + DataFileHandler.COLUMN_FILE_SUFFIX;
+            long timeStart = PerformanceTracker.startOperation();
+            try {
+                int valueCount = DataFileHandler.convertTextToColumnFile(textFilePath, columnFilePath);
+                PerformanceTracker.displayOperationTime(timeStart, "конвертація " + textFilePath + " у двійковий формат");
+                System.out.println("Записано " + valueCount + " значень у " + columnFilePath);
+            } catch (IOException | RuntimeException exception) {
+                System.out.println("❌ Помилка конвертації " + textFilePath + ": " + exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Клас CompactDuckRegistry — реєстр «качка → власник» у кількох плоских примітивних масивах.
+ *
+ * <p>Качка кодується одним long: у старших 32 бітах номер клички у словнику
+ * {@link StringDictionary}, у молодших — кількість каченят. Власники також
+ * замінюються номерами, тож увесь реєстр — це таблиця {@link LongIntHashMap}
+ * (12 байтів на комірку) плюс по одному рядку на кожну різну кличку та власника.
+ * Об'єкти {@link BasicDataOperationUsingMap.Duck} створюються лише на межі API.</p>
+ */
+public class CompactDuckRegistry {
+    private static final int NO_OWNER = -1;
+
+    private final StringDictionary nicknames = new StringDictionary();
+    private final StringDictionary owners = new StringDictionary();
+    private final LongIntHashMap ownerIdByDuck;
+
+    /**
+     * Конструктор, який створює порожній реєстр.
+     *
+     * @param expectedSize Очікувана кількість качок
+     */
+    public CompactDuckRegistry(int expectedSize) {
+        this.ownerIdByDuck = new LongIntHashMap(expectedSize, NO_OWNER);
+    }
+
+    /**
+     * Пакує номер клички та кількість каченят у ключ.
+     *
+     * @param nicknameId Номер клички у словнику
+     * @param chicks Кількість каченят
+     * @return Ключ качки
+     */
+    static long packKey(int nicknameId, int chicks) {
+        return ((long) nicknameId << 32) | (chicks & 0xFFFFFFFFL);
+    }
+
+    static int nicknameIdOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    static int chicksOf(long key) {
+        return (int) key;
+    }
+
+    public int size() {
+        return ownerIdByDuck.size();
+    }
+
+    /**
+     * Реєструє качку за власником.
+     *
+     * @param nickname Кличка
+     * @param chicks Кількість каченят
+     * @param owner Власник
+     * @return Попередній власник або null
+     */
+    public String put(String nickname, int chicks, String owner) {
+        long key = packKey(nicknames.intern(nickname), chicks);
+        return ownerName(ownerIdByDuck.put(key, owners.intern(owner)));
+    }
+
+    public String put(BasicDataOperationUsingMap.Duck duck, String owner) {
+        return put(duck.getNickname(), duck.getChicks(), owner);
+    }
+
+    /**
+     * Повертає власника качки; невідома кличка не додається до словника.
+     *
+     * @param nickname Кличка
+     * @param chicks Кількість каченят
+     * @return Власник або null
+     */
+    public String get(String nickname, int chicks) {
+        return ownerName(ownerIdByDuck.get(lookupKey(nickname, chicks)));
+    }
+
+    public String get(BasicDataOperationUsingMap.Duck duck) {
+        return get(duck.getNickname(), duck.getChicks());
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Duck duck) {
+        return ownerIdByDuck.containsKey(lookupKey(duck.getNickname(), duck.getChicks()));
+    }
+
+    /**
+     * Видаляє качку з реєстру.
+     *
+     * @param duck Качка
+     * @return Попередній власник або null
+     */
+    public String remove(BasicDataOperationUsingMap.Duck duck) {
+        return ownerName(ownerIdByDuck.remove(lookupKey(duck.getNickname(), duck.getChicks())));
+    }
+
+    /**
+     * Відновлює качку з ключа.
+     *
+     * @param key Ключ качки
+     * @return Новий об'єкт Duck
+     */
+    public BasicDataOperationUsingMap.Duck duckOf(long key) {
+        return new BasicDataOperationUsingMap.Duck(nicknames.valueOf(nicknameIdOf(key)), chicksOf(key));
+    }
+
+    /**
+     * Оцінює обсяг пам'яті таблиці реєстру (без словників рядків).
+     *
+     * @return Кількість байтів
+     */
+    public long footprintBytes() {
+        return ownerIdByDuck.footprintBytes();
+    }
+
+    public int distinctNicknameCount() {
+        return nicknames.size();
+    }
+
+    public int distinctOwnerCount() {
+        return owners.size();
+    }
+
+    // для невідомої клички номер -1, а такий ключ ніколи не записується в таблицю
+    private long lookupKey(String nickname, int chicks) {
+        return packKey(nicknames.idOf(nickname), chicks);
+    }
+
+    private String ownerName(int ownerId) {
+        return ownerId == NO_OWNER ? null : owners.valueOf(ownerId);
+    }
+}
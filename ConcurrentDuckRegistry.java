@@ -0,0 +1,163 @@
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Клас ConcurrentDuckRegistry — потокобезпечний реєстр «качка → власник» зі зворотним індексом.
+ *
+ * <p>На відміну від Hashtable, де кожен get/put бере монітор усієї таблиці,
+ * записи зберігаються в ConcurrentHashMap: читання не блокуються, а запис
+ * блокує лише один кошик таблиці. Кожна зміна власника виконується всередині
+ * {@link ConcurrentHashMap#compute} для ключа-качки, тож оновлення запису та
+ * перенесення качки між множинами індексу «власник → качки» атомарні щодо
+ * інших змін тієї ж качки. Множини індексу змінюються під блокуванням кошика
+ * власника, тому порожні множини видаляються без гонок з додаванням.</p>
+ *
+ * <p>Читачі індексу бачать слабко узгоджений стан: під час перенесення качка
+ * може на мить не належати жодному власнику, але ніколи — двом одразу.</p>
+ */
+public class ConcurrentDuckRegistry {
+    private final ConcurrentHashMap<BasicDataOperationUsingMap.Duck, String> owners;
+    private final ConcurrentHashMap<String, Set<BasicDataOperationUsingMap.Duck>> ducksByOwner;
+
+    /**
+     * Конструктор, який створює порожній реєстр.
+     *
+     * @param expectedSize Очікувана кількість качок
+     */
+    public ConcurrentDuckRegistry(int expectedSize) {
+        this.owners = new ConcurrentHashMap<>(expectedSize);
+        this.ducksByOwner = new ConcurrentHashMap<>();
+    }
+
+    public int size() {
+        return owners.size();
+    }
+
+    /**
+     * Повертає власника качки без блокування.
+     *
+     * @param duck Качка
+     * @return Власник або null
+     */
+    public String get(BasicDataOperationUsingMap.Duck duck) {
+        return owners.get(duck);
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Duck duck) {
+        return owners.containsKey(duck);
+    }
+
+    /**
+     * Реєструє (або перереєстровує) качку за власником.
+     *
+     * @param duck Качка
+     * @param owner Власник (не null)
+     * @return Попередній власник або null
+     */
+    public String register(BasicDataOperationUsingMap.Duck duck, String owner) {
+        String[] previous = new String[1];
+        computeOwner(duck, (key, current) -> {
+            previous[0] = current;
+            return owner;
+        });
+        return previous[0];
+    }
+
+    /**
+     * Атомарно обчислює нового власника качки; null видаляє запис.
+     *
+     * @param duck Качка
+     * @param remapping Функція (качка, поточний власник або null) → новий власник або null
+     * @return Новий власник або null
+     */
+    public String computeOwner(BasicDataOperationUsingMap.Duck duck,
+                               BiFunction<? super BasicDataOperationUsingMap.Duck, ? super String, String> remapping) {
+        return owners.compute(duck, (key, current) -> {
+            String updated = remapping.apply(key, current);
+            if (current != null && !current.equals(updated)) {
+                unindex(current, key);
+            }
+            if (updated != null && !updated.equals(current)) {
+                index(updated, key);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Атомарно поєднує власника качки з новим значенням (як {@link java.util.Map#merge}).
+     *
+     * @param duck Качка
+     * @param owner Значення для поєднання (не null)
+     * @param merging Функція (поточний власник, нове значення) → власник або null
+     * @return Новий власник або null
+     */
+    public String mergeOwner(BasicDataOperationUsingMap.Duck duck, String owner,
+                             BiFunction<? super String, ? super String, String> merging) {
+        return computeOwner(duck, (key, current) -> current == null ? owner : merging.apply(current, owner));
+    }
+
+    /**
+     * Видаляє качку з реєстру.
+     *
+     * @param duck Качка
+     * @return Попередній власник або null
+     */
+    public String remove(BasicDataOperationUsingMap.Duck duck) {
+        String[] previous = new String[1];
+        computeOwner(duck, (key, current) -> {
+            previous[0] = current;
+            return null;
+        });
+        return previous[0];
+    }
+
+    /**
+     * Повертає качок власника через зворотний індекс за O(1).
+     *
+     * @param owner Власник
+     * @return Незмінний перегляд множини (порожній, якщо качок немає)
+     */
+    public Set<BasicDataOperationUsingMap.Duck> ducksOf(String owner) {
+        Set<BasicDataOperationUsingMap.Duck> ducks = ducksByOwner.get(owner);
+        return ducks == null ? Collections.emptySet() : Collections.unmodifiableSet(ducks);
+    }
+
+    /**
+     * Видаляє всіх качок власника; качки, перереєстровані іншим потоком тим часом, не зачіпаються.
+     *
+     * @param owner Власник
+     * @return Кількість видалених записів
+     */
+    public int removeByOwner(String owner) {
+        int removed = 0;
+        for (BasicDataOperationUsingMap.Duck duck : ducksOf(owner).toArray(new BasicDataOperationUsingMap.Duck[0])) {
+            boolean[] matched = new boolean[1];
+            computeOwner(duck, (key, current) -> {
+                matched[0] = owner.equals(current);
+                return matched[0] ? null : current;
+            });
+            if (matched[0]) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private void index(String owner, BasicDataOperationUsingMap.Duck duck) {
+        ducksByOwner.compute(owner, (key, ducks) -> {
+            Set<BasicDataOperationUsingMap.Duck> result = ducks != null ? ducks : ConcurrentHashMap.newKeySet();
+            result.add(duck);
+            return result;
+        });
+    }
+
+    private void unindex(String owner, BasicDataOperationUsingMap.Duck duck) {
+        ducksByOwner.computeIfPresent(owner, (key, ducks) -> {
+            ducks.remove(duck);
+            return ducks.isEmpty() ? null : ducks;
+        });
+    }
+}
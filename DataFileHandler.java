@@ -1,60 +1,435 @@
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
- * Клас DataFileHandler управляє роботою з файлами даних Integer.
+ * Клас DataFileHandler управляє роботою з файлами даних Integer та інших типів з каталогу list/.
  */
 public class DataFileHandler {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    static final String COLUMN_FILE_SUFFIX = ".bcol";
+    // середня довжина рядка у файлах Integer.data для оцінки початкової місткості
+    private static final int ESTIMATED_BYTES_PER_VALUE = 11;
+
     /**
-     * Завантажує масив об'єктів Integer з файлу.
-     * 
+     * Потоково завантажує цілі числа з файлу в примітивний масив int.
+     *
+     * <p>Файл читається блоками без {@code readLine()}: цифри розбираються прямо
+     * з байтів, масив зростає за потреби, тому розмір файлу не обмежений.
+     * Мітка порядку байтів UTF-8 (BOM) на початку файлу пропускається.</p>
+     *
      * @param filePath Шлях до файлу з даними.
-     * @return Масив об'єктів Integer.
+     * @return Масив значень int.
      */
-    public static Integer[] loadArrayFromFile(String filePath) {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_DATE_TIME;
-        Integer[] temporaryArray = new Integer[1000];
-        int currentIndex = 0;
-
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            String currentLine;
-            while ((currentLine = fileReader.readLine()) != null) {
-                // Видаляємо можливі невидимі символи та BOM
-                currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
-                if (!currentLine.isEmpty()) {
-                    Integer parsedValue = Integer.parseInt(currentLine);
-                    temporaryArray[currentIndex++] = parsedValue;
+    public static int[] loadIntArrayFromFile(String filePath) {
+        long fileLength = new File(filePath).length();
+        int expectedCount = (int) Math.min(fileLength / ESTIMATED_BYTES_PER_VALUE, Integer.MAX_VALUE - 8);
+
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            return loadIntArrayFromStream(inputStream, expectedCount);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return new int[0];
+        }
+    }
+
+    /**
+     * Потоково розбирає цілі числа з довільного потоку (наприклад, стандартного введення).
+     *
+     * @param inputStream Потік з текстом, по одному числу в рядку.
+     * @param expectedCount Очікувана кількість значень для початкової місткості.
+     * @return Масив значень int.
+     * @throws IOException якщо потік неможливо прочитати.
+     */
+    public static int[] loadIntArrayFromStream(InputStream inputStream, int expectedCount) throws IOException {
+        IntTextParser parser = new IntTextParser(expectedCount);
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int bytesRead = inputStream.readNBytes(buffer, 0, buffer.length);
+        int offset = skipByteOrderMark(buffer, bytesRead);
+        while (bytesRead > 0) {
+            parser.parse(buffer, offset, bytesRead);
+            offset = 0;
+            bytesRead = inputStream.read(buffer);
+        }
+        return parser.finish();
+    }
 
+    /**
+     * Паралельно завантажує цілі числа з великого файлу в примітивний масив int.
+     *
+     * <p>Файл ділиться на діапазони, вирівняні по переведенню рядка, і кожен діапазон
+     * розбирається окремим потоком спільного ForkJoinPool. Малі файли завантажуються
+     * послідовно через {@link #loadIntArrayFromFile(String)}.</p>
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив значень int у порядку файлу.
+     */
+    public static int[] loadIntArrayFromFileParallel(String filePath) {
+        return loadIntArrayFromFileParallel(filePath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Паралельно завантажує цілі числа з файлу у заданому пулі потоків.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param pool Пул потоків для розбору діапазонів.
+     * @return Масив значень int у порядку файлу.
+     */
+    public static int[] loadIntArrayFromFileParallel(String filePath, ForkJoinPool pool) {
+        if (pool.getParallelism() < 2 || new File(filePath).length() < ParallelIntFileLoader.PARALLEL_THRESHOLD_BYTES) {
+            return loadIntArrayFromFile(filePath);
+        }
+        try {
+            return ParallelIntFileLoader.load(filePath, pool);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return new int[0];
+        }
+    }
+
+    /**
+     * Завантажує файл даних довільного зареєстрованого типу в його компактне представлення.
+     *
+     * <p>Файл читається блоками байтів; кожен рядок без пробільних символів на краях
+     * передається парсеру типу як діапазон буфера. Порожні рядки та BOM пропускаються.</p>
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param dataType Тип даних з {@link DataTypeRegistry}.
+     * @param <A> Тип результуючого масиву.
+     * @return Масив значень у представленні типу.
+     */
+    public static <A> A loadTypedArrayFromFile(String filePath, DataTypeRegistry.DataType<A> dataType) {
+        DataTypeRegistry.LineParser<A> parser = dataType.newParser();
+
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int carriedBytes = 0;
+            boolean firstBlock = true;
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer, carriedBytes, buffer.length - carriedBytes)) > 0) {
+                int blockEnd = carriedBytes + bytesRead;
+                int lineStart = 0;
+                if (firstBlock) {
+                    lineStart = skipByteOrderMark(buffer, blockEnd);
+                    firstBlock = false;
+                }
+                for (int i = lineStart; i < blockEnd; i++) {
+                    if (buffer[i] == '\n') {
+                        parseTrimmedLine(parser, buffer, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                // незавершений рядок переносимо на початок буфера
+                carriedBytes = blockEnd - lineStart;
+                if (carriedBytes == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                } else {
+                    System.arraycopy(buffer, lineStart, buffer, 0, carriedBytes);
                 }
             }
+            parseTrimmedLine(parser, buffer, 0, carriedBytes);
         } catch (IOException ioException) {
             ioException.printStackTrace();
         }
 
-        Integer[] resultArray = new Integer[currentIndex];
-        System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
+        return parser.toArray();
+    }
+
+    /**
+     * Завантажує файл даних за типом елемента, зареєстрованим у {@link DataTypeRegistry}.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param elementType Тип елемента (наприклад, LocalDateTime.class).
+     * @return Масив значень у представленні типу (long[], int[], double[] тощо).
+     */
+    public static Object loadTypedArrayFromFile(String filePath, Class<?> elementType) {
+        return loadTypedArrayFromFile(filePath, DataTypeRegistry.forElementType(elementType));
+    }
+
+    private static void parseTrimmedLine(DataTypeRegistry.LineParser<?> parser, byte[] buffer, int from, int to) {
+        while (from < to && buffer[from] >= 0 && buffer[from] <= ' ') {
+            from++;
+        }
+        while (to > from && buffer[to - 1] >= 0 && buffer[to - 1] <= ' ') {
+            to--;
+        }
+        if (from < to) {
+            parser.parseLine(buffer, from, to);
+        }
+    }
 
+    /**
+     * Перетворює примітивний масив у масив об'єктів Integer для колекцій.
+     *
+     * @param intArray Масив значень int.
+     * @return Масив об'єктів Integer.
+     */
+    public static Integer[] boxArray(int[] intArray) {
+        Integer[] resultArray = new Integer[intArray.length];
+        for (int i = 0; i < intArray.length; i++) {
+            resultArray[i] = intArray[i];
+        }
         return resultArray;
     }
 
+    /**
+     * Визначає довжину мітки BOM на початку буфера.
+     *
+     * @param buffer Буфер з першими байтами файлу.
+     * @param length Кількість прочитаних байтів.
+     * @return 3, якщо буфер починається з UTF-8 BOM, інакше 0.
+     */
+    static int skipByteOrderMark(byte[] buffer, int length) {
+        if (length >= 3 && (buffer[0] & 0xFF) == 0xEF && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Завантажує масив об'єктів Integer з файлу.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив об'єктів Integer.
+     */
+    public static Integer[] loadArrayFromFile(String filePath) {
+        return boxArray(loadIntArrayFromFile(filePath));
+    }
+
     /**
      * Зберігає масив об'єктів Integer у файл.
      * 
+     * <p>Запис іде через тимчасовий файл з атомарною заміною цілі, тому у разі
+     * помилки попередній вміст файлу залишається неушкодженим.</p>
+     * 
      * @param integerArray Масив об'єктів Integer.
      * @param filePath Шлях до файлу для збереження.
      */
     public static void writeArrayToFile(Integer[] integerArray, String filePath) {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
-            for (Integer dateTimeElement : integerArray) {
-                fileWriter.write(dateTimeElement.toString());
-                fileWriter.newLine();
+        writeArrayToFile(integerArray, filePath, false);
+    }
+
+    /**
+     * Зберігає масив об'єктів Integer у текстовий файл і, за потреби, поруч у двійковий колонковий файл.
+     * 
+     * @param integerArray Масив об'єктів Integer.
+     * @param filePath Шлях до файлу для збереження.
+     * @param withColumnFile Чи створювати також файл filePath + {@value #COLUMN_FILE_SUFFIX}.
+     */
+    public static void writeArrayToFile(Integer[] integerArray, String filePath, boolean withColumnFile) {
+        int[] intArray = new int[integerArray.length];
+        for (int i = 0; i < integerArray.length; i++) {
+            intArray[i] = integerArray[i];
+        }
+        try {
+            writeIntArrayToFile(intArray, filePath);
+            if (withColumnFile) {
+                writeIntColumnFile(intArray, filePath + COLUMN_FILE_SUFFIX);
             }
         } catch (IOException ioException) {
             ioException.printStackTrace();
         }
     }
+
+    /**
+     * Атомарно зберігає масив int у текстовий файл, по одному значенню в рядку.
+     *
+     * <p>Цифри форматуються одразу в прямий буфер і скидаються великими блоками
+     * через FileChannel; ціль замінюється перейменуванням тимчасового файлу.</p>
+     *
+     * @param intArray Масив значень int.
+     * @param filePath Шлях до файлу для збереження.
+     * @throws IOException якщо запис не вдався (цільовий файл при цьому не змінюється).
+     */
+    public static void writeIntArrayToFile(int[] intArray, String filePath) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(filePath)) {
+            for (int value : intArray) {
+                fileWriter.writeLine(value);
+            }
+            fileWriter.commit();
+        }
+    }
+
+    /**
+     * Відображає двійковий колонковий файл у пам'ять без копіювання даних.
+     *
+     * <p>Після відкриття значення читаються прямо зі сторінок файлу, тому холодний
+     * старт обмежений лише швидкістю підвантаження сторінок, а не розбором тексту.
+     * Розмір одного файлу обмежений 2 ГБ (обмеження {@link FileChannel#map}).</p>
+     *
+     * @param filePath Шлях до файлу у форматі {@link BinaryColumn}.
+     * @return Колонка поверх відображеної пам'яті.
+     * @throws IOException якщо файл неможливо відкрити або відобразити.
+     */
+    public static BinaryColumn mapColumnFile(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new BinaryColumn(mappedBuffer);
+        }
+    }
+
+    /**
+     * Зберігає масив int у двійковому колонковому форматі.
+     *
+     * @param intArray Масив значень int.
+     * @param filePath Шлях до файлу для збереження.
+     * @throws IOException якщо запис не вдався.
+     */
+    public static void writeIntColumnFile(int[] intArray, String filePath) throws IOException {
+        writeColumnFile(intArray, BinaryColumn.ColumnType.INT32, filePath);
+    }
+
+    /**
+     * Зберігає примітивний масив у двійковому колонковому форматі заданого типу.
+     *
+     * <p>Під час запису обчислюються прапорець упорядкованості та мін/макс для заголовка.</p>
+     *
+     * @param values Масив int[], long[], short[], byte[], char[], float[] або double[].
+     * @param columnType Тип колонки, що відповідає масиву.
+     * @param filePath Шлях до файлу для збереження.
+     * @throws IOException якщо запис не вдався.
+     */
+    public static void writeColumnFile(Object values, BinaryColumn.ColumnType columnType, String filePath) throws IOException {
+        int count = Array.getLength(values);
+
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(filePath)) {
+            // заголовок залежить від мін/макс, тому записується останнім
+            fileWriter.reserve(BinaryColumn.HEADER_SIZE);
+
+            ColumnStatistics statistics = new ColumnStatistics();
+            switch (columnType) {
+                case INT32:
+                    for (int value : (int[]) values) {
+                        fileWriter.writeInt(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case INT64:
+                    for (long value : (long[]) values) {
+                        fileWriter.writeLong(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case INT16:
+                    for (short value : (short[]) values) {
+                        fileWriter.writeShort(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case INT8:
+                    for (byte value : (byte[]) values) {
+                        fileWriter.writeByte(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case CHAR16:
+                    for (char value : (char[]) values) {
+                        fileWriter.writeChar(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case FLOAT32:
+                    for (float value : (float[]) values) {
+                        fileWriter.writeFloat(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                case FLOAT64:
+                    for (double value : (double[]) values) {
+                        fileWriter.writeDouble(value);
+                        statistics.accept(value);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Непідтримуваний тип колонки: " + columnType);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryColumn.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            BinaryColumn.writeHeader(header, columnType, count, statistics.sorted,
+                    statistics.minimum(columnType), statistics.maximum(columnType));
+            fileWriter.writeAt(header, 0);
+            fileWriter.commit();
+        }
+    }
+
+    /**
+     * Накопичує мін/макс і ознаку впорядкованості під час запису колонки.
+     */
+    private static final class ColumnStatistics {
+        private boolean sorted = true;
+        private boolean empty = true;
+        private long minLong;
+        private long maxLong;
+        private long previousLong;
+        private double minDouble;
+        private double maxDouble;
+        private double previousDouble;
+
+        void accept(long value) {
+            if (empty) {
+                minLong = maxLong = value;
+                empty = false;
+            } else {
+                sorted &= previousLong <= value;
+                minLong = Math.min(minLong, value);
+                maxLong = Math.max(maxLong, value);
+            }
+            previousLong = value;
+        }
+
+        void accept(double value) {
+            if (empty) {
+                minDouble = maxDouble = value;
+                empty = false;
+            } else {
+                sorted &= previousDouble <= value;
+                minDouble = Math.min(minDouble, value);
+                maxDouble = Math.max(maxDouble, value);
+            }
+            previousDouble = value;
+        }
+
+        long minimum(BinaryColumn.ColumnType columnType) {
+            return isFloating(columnType) ? Double.doubleToLongBits(minDouble) : minLong;
+        }
+
+        long maximum(BinaryColumn.ColumnType columnType) {
+            return isFloating(columnType) ? Double.doubleToLongBits(maxDouble) : maxLong;
+        }
+
+        private static boolean isFloating(BinaryColumn.ColumnType columnType) {
+            return columnType == BinaryColumn.ColumnType.FLOAT32 || columnType == BinaryColumn.ColumnType.FLOAT64;
+        }
+    }
+
+    /**
+     * Одноразово конвертує текстовий файл даних у двійковий колонковий формат.
+     *
+     * <p>Тип даних визначається за ім'ям файлу через {@link DataTypeRegistry#forFilePath(String)}.</p>
+     *
+     * @param textFilePath Шлях до текстового файлу.
+     * @param columnFilePath Шлях до двійкового файлу.
+     * @return Кількість записаних значень.
+     * @throws IOException якщо запис не вдався.
+     * @throws IllegalArgumentException якщо тип файлу не має двійкового представлення.
+     */
+    public static int convertTextToColumnFile(String textFilePath, String columnFilePath) throws IOException {
+        DataTypeRegistry.DataType<?> dataType = DataTypeRegistry.forFilePath(textFilePath);
+        if (dataType.getColumnType() == null) {
+            throw new IllegalArgumentException("Тип " + dataType.getElementType().getSimpleName() + " не має двійкового представлення");
+        }
+        Object values = loadTypedArrayFromFile(textFilePath, dataType);
+        writeColumnFile(values, dataType.getColumnType(), columnFilePath);
+        return Array.getLength(values);
+    }
 }
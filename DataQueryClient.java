@@ -0,0 +1,162 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Клас DataQueryClient — клієнт навантажувального тесту для {@link DataQueryServer}.
+ *
+ * <p>Відкриває задану кількість з'єднань з сервером на loopback-адресі; кожне в окремому
+ * потоці надсилає запити по одному (FIND, CONTAINS, RANGE, MINMAX) з випадковими
+ * значеннями в межах даних і чекає відповіді. Затримка «запит → відповідь» кожного
+ * запиту записується в {@link LatencyHistogram}; наприкінці виводяться пропускна
+ * здатність, p50/p90/p99/макс клієнта і статистика сервера (STATS).</p>
+ *
+ * <p>Використання: {@code java DataQueryClient <порт> [з'єднань] [запитів-на-з'єднання]}</p>
+ */
+public class DataQueryClient {
+    private static final int DEFAULT_CONNECTIONS = 4;
+    private static final int DEFAULT_REQUESTS_PER_CONNECTION = 10_000;
+
+    private final int port;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    DataQueryClient(int port) {
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        if (args.length < 1) {
+            System.out.println("Використання: java DataQueryClient <порт> [з'єднань] [запитів-на-з'єднання]");
+            return;
+        }
+        int port = Integer.parseInt(args[0]);
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONNECTIONS;
+        int requestsPerConnection = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS_PER_CONNECTION;
+
+        DataQueryClient client = new DataQueryClient(port);
+        int[] bounds = client.fetchBounds();
+        long elapsed = client.runLoad(connections, requestsPerConnection, bounds[0], bounds[1]);
+
+        long requests = client.latencies.getCount();
+        System.out.printf("З'єднань: %d, запитів: %d, час: %.1f мс, %,.0f запитів/с%n",
+            connections, requests, elapsed / 1e6, requests * 1e9 / elapsed);
+        System.out.printf("Затримка клієнта, нс: середня %.0f, p50 %d, p90 %d, p99 %d, макс %d%n",
+            client.latencies.getMean(), client.latencies.getValueAtPercentile(50),
+            client.latencies.getValueAtPercentile(90), client.latencies.getValueAtPercentile(99),
+            client.latencies.getMax());
+        System.out.println("Статистика сервера: " + client.request(DataQueryServer.STATS));
+    }
+
+    /**
+     * Запитує межі даних, щоб генерувати значення в їх діапазоні.
+     *
+     * @return Масив {мінімум, максимум}
+     */
+    private int[] fetchBounds() throws IOException {
+        String[] parts = request(DataQueryServer.MINMAX).split(" ");
+        if (!"OK".equals(parts[0])) {
+            throw new IOException("Сервер не повернув межі даних: " + String.join(" ", parts));
+        }
+        return new int[] {Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+    }
+
+    /**
+     * Надсилає одну команду окремим з'єднанням.
+     *
+     * @param command Команда протоколу
+     * @return Рядок відповіді
+     */
+    private String request(String command) throws IOException {
+        try (Socket socket = connect();
+             BufferedReader reader = readerOf(socket);
+             PrintWriter writer = writerOf(socket)) {
+            writer.println(command);
+            writer.flush();
+            String response = reader.readLine();
+            writer.println(DataQueryServer.QUIT);
+            return response;
+        }
+    }
+
+    private long runLoad(int connections, int requestsPerConnection, int min, int max)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(connections);
+        try {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < connections; i++) {
+                workers.add(() -> {
+                    runConnection(requestsPerConnection, min, max);
+                    return null;
+                });
+            }
+            long timeStart = System.nanoTime();
+            for (Future<Void> result : executor.invokeAll(workers)) {
+                result.get();
+            }
+            return System.nanoTime() - timeStart;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void runConnection(int requests, int min, int max) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try (Socket socket = connect();
+             BufferedReader reader = readerOf(socket);
+             PrintWriter writer = writerOf(socket)) {
+            for (int i = 0; i < requests; i++) {
+                String command = nextCommand(random, min, max);
+                long timeStart = System.nanoTime();
+                writer.println(command);
+                writer.flush();
+                String response = reader.readLine();
+                latencies.recordSince(timeStart);
+                if (response == null || !response.startsWith("OK")) {
+                    throw new IOException("Неочікувана відповідь на '" + command + "': " + response);
+                }
+            }
+            writer.println(DataQueryServer.QUIT);
+        }
+    }
+
+    private static String nextCommand(ThreadLocalRandom random, int min, int max) {
+        int value = (int) random.nextLong(min, (long) max + 1);
+        int kind = random.nextInt(10);
+        if (kind < 4) {
+            return DataQueryServer.FIND + " " + value;
+        } else if (kind < 8) {
+            return DataQueryServer.CONTAINS + " " + value;
+        } else if (kind < 9) {
+            int other = (int) random.nextLong(min, (long) max + 1);
+            return DataQueryServer.RANGE + " " + Math.min(value, other) + " " + Math.max(value, other);
+        }
+        return DataQueryServer.MINMAX;
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        return socket;
+    }
+
+    private static BufferedReader readerOf(Socket socket) throws IOException {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static PrintWriter writerOf(Socket socket) throws IOException {
+        return new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), false);
+    }
+}
@@ -0,0 +1,193 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Клас DataQueryServer — резидентний сервер запитів до набору даних int.
+ *
+ * <p>Дані завантажуються та індексуються один раз ({@link SortedIntIndex} для рангів і
+ * діапазонів, {@link IntHashSet} для перевірки належності), після чого сервер відповідає
+ * на запити без повторного запуску JVM, завантаження файлу і сортування. Обидва індекси
+ * незмінні після побудови, тож запити з різних з'єднань обробляються без блокувань.</p>
+ *
+ * <p>Протокол рядковий (UTF-8), одна команда — один рядок відповіді:</p>
+ * <pre>
+ * FIND &lt;значення&gt;         → OK &lt;позиція у відсортованих даних або -1&gt;
+ * CONTAINS &lt;значення&gt;     → OK 1|0
+ * MINMAX                  → OK &lt;мінімум&gt; &lt;максимум&gt;
+ * RANGE &lt;від&gt; &lt;до&gt;        → OK &lt;кількість значень у [від, до]&gt;
+ * STATS                   → OK &lt;JSON з лічильниками і p50/p90/p99 затримок за командами&gt;
+ * QUIT                    → закриває з'єднання
+ * </pre>
+ * <p>Помилки повертаються як {@code ERR <опис>}. Затримка кожного запиту (від
+ * розбору рядка до готової відповіді) записується в гістограму його команди.</p>
+ *
+ * <p>Транспорт — стандартне введення/виведення або TCP-сокет лише на loopback-адресі,
+ * по одному потоку на з'єднання. Клієнт для навантажувального тесту — {@link DataQueryClient}.</p>
+ */
+public class DataQueryServer {
+    static final String FIND = "FIND";
+    static final String CONTAINS = "CONTAINS";
+    static final String MINMAX = "MINMAX";
+    static final String RANGE = "RANGE";
+    static final String STATS = "STATS";
+    static final String QUIT = "QUIT";
+
+    private final SortedIntIndex sortedIndex;
+    private final IntHashSet membership;
+    private final MetricsRegistry metrics = new MetricsRegistry();
+
+    /**
+     * Конструктор, який будує індекси над набором даних.
+     *
+     * @param data Значення (масив не змінюється)
+     */
+    public DataQueryServer(int[] data) {
+        this.sortedIndex = new SortedIntIndex(data);
+        this.membership = IntHashSet.of(data, IntHashSet.DEFAULT_LOAD_FACTOR);
+    }
+
+    public int size() {
+        return sortedIndex.size();
+    }
+
+    /**
+     * Обробляє один рядок протоколу.
+     *
+     * @param line Команда з аргументами
+     * @return Рядок відповіді або null для {@value #QUIT}
+     */
+    public String handle(String line) {
+        long timeStart = System.nanoTime();
+        String[] parts = line.trim().split("\\s+");
+        String command = parts[0].toUpperCase(Locale.ROOT);
+        String response;
+        try {
+            switch (command) {
+                case FIND:
+                    requireArguments(parts, 1);
+                    int value = Integer.parseInt(parts[1]);
+                    response = "OK " + (sortedIndex.contains(value) ? sortedIndex.rank(value) : -1);
+                    break;
+                case CONTAINS:
+                    requireArguments(parts, 1);
+                    response = "OK " + (membership.contains(Integer.parseInt(parts[1])) ? 1 : 0);
+                    break;
+                case MINMAX:
+                    requireArguments(parts, 0);
+                    response = sortedIndex.size() == 0 ? "ERR набір даних порожній"
+                        : "OK " + sortedIndex.min() + " " + sortedIndex.max();
+                    break;
+                case RANGE:
+                    requireArguments(parts, 2);
+                    response = "OK " + sortedIndex.countInRange(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                    break;
+                case STATS:
+                    requireArguments(parts, 0);
+                    response = "OK " + metrics.toJson();
+                    break;
+                case QUIT:
+                    return null;
+                default:
+                    metrics.counter("помилки").increment();
+                    return "ERR невідома команда: " + parts[0];
+            }
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException теж є IllegalArgumentException
+            metrics.counter("помилки").increment();
+            return "ERR " + e.getMessage();
+        }
+        metrics.timer(command).recordSince(timeStart);
+        return response;
+    }
+
+    /**
+     * Обслуговує одне з'єднання: читає команди до {@value #QUIT} або кінця потоку.
+     *
+     * @param input Джерело команд
+     * @param output Куди писати відповіді
+     * @throws IOException якщо читання або запис не вдалися
+     */
+    public void serve(Reader input, Writer output) throws IOException {
+        BufferedReader reader = new BufferedReader(input);
+        PrintWriter writer = new PrintWriter(output, false);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String response = handle(line);
+            if (response == null) {
+                break;
+            }
+            writer.println(response);
+            // скидаємо, коли вхідні команди закінчились: клієнт чекає відповіді, а конвеєр отримує пакетом
+            if (!reader.ready()) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Приймає з'єднання на loopback-адресі, по потоку на кожне, доки процес не зупинять.
+     *
+     * @param port Порт (0 — будь-який вільний)
+     * @throws IOException якщо сокет неможливо відкрити
+     */
+    public void serveSocket(int port) throws IOException {
+        AtomicInteger connectionNumber = new AtomicInteger();
+        ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "query-connection-" + connectionNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println("Сервер запитів слухає " + serverSocket.getLocalSocketAddress()
+                + " (" + size() + " значень)");
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serveConnection(socket));
+            }
+        } finally {
+            connections.shutdownNow();
+        }
+    }
+
+    /**
+     * Підсумкова таблиця затримок за командами.
+     *
+     * @return Таблиця
+     */
+    public String summary() {
+        return metrics.summaryTable();
+    }
+
+    private void serveConnection(Socket socket) {
+        try (Socket connection = socket) {
+            connection.setTcpNoDelay(true);
+            serve(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8),
+                new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void requireArguments(String[] parts, int count) {
+        if (parts.length != count + 1) {
+            throw new IllegalArgumentException("команда " + parts[0] + " очікує аргументів: " + count);
+        }
+    }
+}
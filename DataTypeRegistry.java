@@ -0,0 +1,662 @@
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Клас DataTypeRegistry зберігає реєстр парсерів для всіх типів файлів даних у каталозі list/.
+ *
+ * <p>Кожен тип елемента відображається на {@link DataType}, який знає ім'я файлу,
+ * фабрику парсера рядків і найкомпактніше представлення значень:</p>
+ * <ul>
+ *   <li>LocalDateTime — long[] секунд від епохи (UTC)</li>
+ *   <li>LocalDate — int[] днів від епохи</li>
+ *   <li>LocalTime — int[] секунд від початку доби</li>
+ *   <li>Integer, long, double, float, short, byte — відповідні примітивні масиви</li>
+ *   <li>Character — char[]</li>
+ *   <li>String — String[] (примітивного представлення немає)</li>
+ * </ul>
+ *
+ * <p>Парсери отримують рядок як діапазон байтів буфера і не створюють
+ * проміжних об'єктів для кожного елемента (окрім String та дробових чисел,
+ * де розбір делегується JDK).</p>
+ */
+public final class DataTypeRegistry {
+
+    /**
+     * Парсер, який накопичує значення рядків у власному масиві.
+     *
+     * @param <A> Тип результуючого масиву
+     */
+    public interface LineParser<A> {
+        /**
+         * Розбирає один рядок без початкових і кінцевих пробільних символів.
+         *
+         * @param buffer Буфер з байтами UTF-8
+         * @param from Початок рядка (включно)
+         * @param to Кінець рядка (не включно)
+         */
+        void parseLine(byte[] buffer, int from, int to);
+
+        /**
+         * Повертає масив накопичених значень точного розміру.
+         *
+         * @return Масив значень
+         */
+        A toArray();
+    }
+
+    // ======= ОПИС ТИПУ ДАНИХ =======
+    public static final class DataType<A> {
+        private final String fileName;
+        private final Class<?> elementType;
+        private final Supplier<LineParser<A>> parserFactory;
+        private final BinaryColumn.ColumnType columnType;
+        private final Function<A, String> summarizer;
+
+        public DataType(String fileName, Class<?> elementType, Supplier<LineParser<A>> parserFactory,
+                BinaryColumn.ColumnType columnType, Function<A, String> summarizer) {
+            this.fileName = fileName;
+            this.elementType = elementType;
+            this.parserFactory = parserFactory;
+            this.columnType = columnType;
+            this.summarizer = summarizer;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public Class<?> getElementType() {
+            return elementType;
+        }
+
+        public LineParser<A> newParser() {
+            return parserFactory.get();
+        }
+
+        /**
+         * Тип двійкової колонки для цього представлення або null, якщо формат не підтримується.
+         *
+         * @return Тип колонки
+         */
+        public BinaryColumn.ColumnType getColumnType() {
+            return columnType;
+        }
+
+        /**
+         * Формує короткий опис масиву: кількість, мінімум і максимум у природньому вигляді.
+         *
+         * @param values Масив значень
+         * @return Текстовий опис
+         */
+        public String summarize(A values) {
+            return summarizer.apply(values);
+        }
+
+        @Override
+        public String toString() {
+            return "DataType{" + fileName + " -> " + elementType.getSimpleName() + "}";
+        }
+    }
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final Map<Class<?>, DataType<?>> REGISTRY = new LinkedHashMap<>();
+
+    public static final DataType<int[]> INTEGER = register(new DataType<>(
+            "Integer.data", Integer.class, IntLineParser::new, BinaryColumn.ColumnType.INT32,
+            values -> summarizeInts(values, String::valueOf)));
+    public static final DataType<long[]> LOCAL_DATE_TIME = register(new DataType<>(
+            "LocalDateTime.data", LocalDateTime.class, LocalDateTimeLineParser::new, BinaryColumn.ColumnType.INT64,
+            values -> summarizeLongs(values, seconds -> LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC).toString())));
+    public static final DataType<int[]> LOCAL_DATE = register(new DataType<>(
+            "LocalDate.data", LocalDate.class, LocalDateLineParser::new, BinaryColumn.ColumnType.INT32,
+            values -> summarizeInts(values, day -> LocalDate.ofEpochDay(day).toString())));
+    public static final DataType<int[]> LOCAL_TIME = register(new DataType<>(
+            "LocalTime.data", LocalTime.class, LocalTimeLineParser::new, BinaryColumn.ColumnType.INT32,
+            values -> summarizeInts(values, second -> LocalTime.ofSecondOfDay(second).toString())));
+    public static final DataType<long[]> LONG = register(new DataType<>(
+            "long.data", long.class, LongLineParser::new, BinaryColumn.ColumnType.INT64,
+            values -> summarizeLongs(values, String::valueOf)));
+    public static final DataType<double[]> DOUBLE = register(new DataType<>(
+            "double.data", double.class, DoubleLineParser::new, BinaryColumn.ColumnType.FLOAT64,
+            DataTypeRegistry::summarizeDoubles));
+    public static final DataType<float[]> FLOAT = register(new DataType<>(
+            "float.data", float.class, FloatLineParser::new, BinaryColumn.ColumnType.FLOAT32,
+            DataTypeRegistry::summarizeFloats));
+    public static final DataType<short[]> SHORT = register(new DataType<>(
+            "short.data", short.class, ShortLineParser::new, BinaryColumn.ColumnType.INT16,
+            DataTypeRegistry::summarizeShorts));
+    public static final DataType<byte[]> BYTE = register(new DataType<>(
+            "byte.data", byte.class, ByteLineParser::new, BinaryColumn.ColumnType.INT8,
+            DataTypeRegistry::summarizeBytes));
+    public static final DataType<char[]> CHARACTER = register(new DataType<>(
+            "Character.data", Character.class, CharLineParser::new, BinaryColumn.ColumnType.CHAR16,
+            DataTypeRegistry::summarizeChars));
+    public static final DataType<String[]> STRING = register(new DataType<>(
+            "String.data", String.class, StringLineParser::new, null,
+            DataTypeRegistry::summarizeStrings));
+
+    private DataTypeRegistry() {
+    }
+
+    /**
+     * Реєструє (або замінює) тип даних для його типу елемента.
+     *
+     * @param dataType Опис типу даних
+     * @param <A> Тип результуючого масиву
+     * @return Той самий опис для зручного присвоєння константам
+     */
+    public static synchronized <A> DataType<A> register(DataType<A> dataType) {
+        REGISTRY.put(dataType.getElementType(), dataType);
+        return dataType;
+    }
+
+    /**
+     * Знаходить тип даних за типом елемента (наприклад, LocalDate.class або long.class).
+     *
+     * @param elementType Тип елемента
+     * @return Опис типу даних
+     * @throws IllegalArgumentException якщо тип не зареєстровано
+     */
+    public static synchronized DataType<?> forElementType(Class<?> elementType) {
+        DataType<?> dataType = REGISTRY.get(elementType);
+        if (dataType == null) {
+            throw new IllegalArgumentException("Парсер для типу " + elementType.getName() + " не зареєстровано");
+        }
+        return dataType;
+    }
+
+    /**
+     * Знаходить тип даних за ім'ям файлу (без урахування каталогу та суфіксів на кшталт .sorted).
+     *
+     * @param filePath Шлях до файлу
+     * @return Опис типу даних
+     * @throws IllegalArgumentException якщо жоден тип не відповідає імені
+     */
+    public static synchronized DataType<?> forFilePath(String filePath) {
+        String fileName = filePath.substring(Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\')) + 1);
+        for (DataType<?> dataType : REGISTRY.values()) {
+            if (fileName.startsWith(dataType.getFileName())) {
+                return dataType;
+            }
+        }
+        throw new IllegalArgumentException("Невідомий тип файлу даних: " + filePath);
+    }
+
+    public static synchronized Collection<DataType<?>> registeredTypes() {
+        return Collections.unmodifiableCollection(new ArrayList<>(REGISTRY.values()));
+    }
+
+    // ============================================================
+    //                РОЗБІР ЧИСЕЛ ПРЯМО З БАЙТІВ
+    // ============================================================
+
+    /**
+     * Розбирає десяткове число long з діапазону байтів без створення рядка.
+     *
+     * @param buffer Буфер з байтами
+     * @param from Початок (включно)
+     * @param to Кінець (не включно)
+     * @return Значення long
+     * @throws NumberFormatException якщо діапазон не є коректним числом
+     */
+    static long parseLong(byte[] buffer, int from, int to) {
+        boolean negative = false;
+        int i = from;
+        if (i < to && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+        if (i == to) {
+            throw invalidNumber(buffer, from, to);
+        }
+        // накопичуємо від'ємне значення, щоб коректно представити Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        for (; i < to; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+                throw invalidNumber(buffer, from, to);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidNumber(buffer, from, to);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    static int parseInt(byte[] buffer, int from, int to, int minValue, int maxValue) {
+        long value = parseLong(buffer, from, to);
+        if (value < minValue || value > maxValue) {
+            throw invalidNumber(buffer, from, to);
+        }
+        return (int) value;
+    }
+
+    private static int parseDigits(byte[] buffer, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    /**
+     * Обчислює день від епохи для дати за пролептичним григоріанським календарем
+     * (той самий алгоритм, що й у LocalDate.toEpochDay).
+     *
+     * @return День від епохи або Long.MIN_VALUE, якщо дата некоректна
+     */
+    private static long epochDay(int year, int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return Long.MIN_VALUE;
+        }
+        long total = 365L * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - 719_528; // днів від 0000-01-01 до 1970-01-01
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Розбирає дату формату yyyy-MM-dd з фіксованих позицій.
+     *
+     * @return День від епохи або Long.MIN_VALUE, якщо формат інший
+     */
+    private static long parseEpochDay(byte[] buffer, int from) {
+        if (buffer[from + 4] != '-' || buffer[from + 7] != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = parseDigits(buffer, from, 4);
+        int month = parseDigits(buffer, from + 5, 2);
+        int day = parseDigits(buffer, from + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * Розбирає час формату HH:mm:ss з фіксованих позицій.
+     *
+     * @return Секунда доби або -1, якщо формат інший
+     */
+    private static int parseSecondOfDay(byte[] buffer, int from) {
+        if (buffer[from + 2] != ':' || buffer[from + 5] != ':') {
+            return -1;
+        }
+        int hour = parseDigits(buffer, from, 2);
+        int minute = parseDigits(buffer, from + 3, 2);
+        int second = parseDigits(buffer, from + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return hour * 3600 + minute * 60 + second;
+    }
+
+    private static String asciiString(byte[] buffer, int from, int to) {
+        return new String(buffer, from, to - from, StandardCharsets.ISO_8859_1);
+    }
+
+    private static NumberFormatException invalidNumber(byte[] buffer, int from, int to) {
+        return new NumberFormatException("Некоректне значення: \"" + new String(buffer, from, to - from, StandardCharsets.UTF_8) + "\"");
+    }
+
+    // ============================================================
+    //                   ПАРСЕРИ ДЛЯ КОЖНОГО ТИПУ
+    // ============================================================
+
+    static class IntLineParser implements LineParser<int[]> {
+        int[] values = new int[INITIAL_CAPACITY];
+        int count;
+
+        void add(int value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = value;
+        }
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            add(parseInt(buffer, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public int[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class LocalDateLineParser extends IntLineParser {
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            long day = to - from == 10 ? parseEpochDay(buffer, from) : Long.MIN_VALUE;
+            if (day == Long.MIN_VALUE) {
+                day = LocalDate.parse(asciiString(buffer, from, to)).toEpochDay();
+            }
+            add(Math.toIntExact(day));
+        }
+    }
+
+    static final class LocalTimeLineParser extends IntLineParser {
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            int second = to - from == 8 ? parseSecondOfDay(buffer, from) : -1;
+            if (second < 0) {
+                second = LocalTime.parse(asciiString(buffer, from, to)).toSecondOfDay();
+            }
+            add(second);
+        }
+    }
+
+    static class LongLineParser implements LineParser<long[]> {
+        long[] values = new long[INITIAL_CAPACITY];
+        int count;
+
+        void add(long value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = value;
+        }
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            add(parseLong(buffer, from, to));
+        }
+
+        @Override
+        public long[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class LocalDateTimeLineParser extends LongLineParser {
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            int length = to - from;
+            long epochSecond = Long.MIN_VALUE;
+            // швидкий шлях для yyyy-MM-ddTHH:mm:ss з необов'язковим 'Z'
+            if ((length == 19 || (length == 20 && buffer[to - 1] == 'Z')) && buffer[from + 10] == 'T') {
+                long day = parseEpochDay(buffer, from);
+                int second = parseSecondOfDay(buffer, from + 11);
+                if (day != Long.MIN_VALUE && second >= 0) {
+                    epochSecond = day * SECONDS_PER_DAY + second;
+                }
+            }
+            if (epochSecond == Long.MIN_VALUE) {
+                epochSecond = LocalDateTime.parse(asciiString(buffer, from, to), DATE_TIME_FORMATTER).toEpochSecond(ZoneOffset.UTC);
+            }
+            add(epochSecond);
+        }
+    }
+
+    static final class DoubleLineParser implements LineParser<double[]> {
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = Double.parseDouble(asciiString(buffer, from, to));
+        }
+
+        @Override
+        public double[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class FloatLineParser implements LineParser<float[]> {
+        private float[] values = new float[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = Float.parseFloat(asciiString(buffer, from, to));
+        }
+
+        @Override
+        public float[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class ShortLineParser implements LineParser<short[]> {
+        private short[] values = new short[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = (short) parseInt(buffer, from, to, Short.MIN_VALUE, Short.MAX_VALUE);
+        }
+
+        @Override
+        public short[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class ByteLineParser implements LineParser<byte[]> {
+        private byte[] values = new byte[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = (byte) parseInt(buffer, from, to, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        }
+
+        @Override
+        public byte[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class CharLineParser implements LineParser<char[]> {
+        private char[] values = new char[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            int first = buffer[from] & 0xFF;
+            char value;
+            // декодуємо один символ UTF-8 (1–3 байти) без створення рядка
+            if (first < 0x80 && to - from == 1) {
+                value = (char) first;
+            } else if ((first & 0xE0) == 0xC0 && to - from == 2) {
+                value = (char) (((first & 0x1F) << 6) | (buffer[from + 1] & 0x3F));
+            } else if ((first & 0xF0) == 0xE0 && to - from == 3) {
+                value = (char) (((first & 0x0F) << 12) | ((buffer[from + 1] & 0x3F) << 6) | (buffer[from + 2] & 0x3F));
+            } else {
+                throw new IllegalArgumentException("Рядок не є одним символом: \"" + new String(buffer, from, to - from, StandardCharsets.UTF_8) + "\"");
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = value;
+        }
+
+        @Override
+        public char[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static final class StringLineParser implements LineParser<String[]> {
+        private String[] values = new String[INITIAL_CAPACITY];
+        private int count;
+
+        @Override
+        public void parseLine(byte[] buffer, int from, int to) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[count++] = new String(buffer, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    // ============================================================
+    //                  ОПИС МАСИВІВ (мін/макс)
+    // ============================================================
+
+    private static String summarizeInts(int[] values, IntFunction<String> formatter) {
+        if (values.length == 0) {
+            return "0 значень";
+        }
+        int minValue = values[0];
+        int maxValue = values[0];
+        for (int value : values) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        return values.length + " значень, мін = " + formatter.apply(minValue) + ", макс = " + formatter.apply(maxValue);
+    }
+
+    private static String summarizeLongs(long[] values, LongFunction<String> formatter) {
+        if (values.length == 0) {
+            return "0 значень";
+        }
+        long minValue = values[0];
+        long maxValue = values[0];
+        for (long value : values) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        return values.length + " значень, мін = " + formatter.apply(minValue) + ", макс = " + formatter.apply(maxValue);
+    }
+
+    private static String summarizeDoubles(double[] values) {
+        if (values.length == 0) {
+            return "0 значень";
+        }
+        double minValue = values[0];
+        double maxValue = values[0];
+        for (double value : values) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        return values.length + " значень, мін = " + minValue + ", макс = " + maxValue;
+    }
+
+    private static String summarizeFloats(float[] values) {
+        if (values.length == 0) {
+            return "0 значень";
+        }
+        float minValue = values[0];
+        float maxValue = values[0];
+        for (float value : values) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        return values.length + " значень, мін = " + minValue + ", макс = " + maxValue;
+    }
+
+    private static String summarizeShorts(short[] values) {
+        int[] widened = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
+        return summarizeInts(widened, String::valueOf);
+    }
+
+    private static String summarizeBytes(byte[] values) {
+        int[] widened = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
+        return summarizeInts(widened, String::valueOf);
+    }
+
+    private static String summarizeChars(char[] values) {
+        int[] widened = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
+        return summarizeInts(widened, code -> "'" + (char) code + "'");
+    }
+
+    private static String summarizeStrings(String[] values) {
+        if (values.length == 0) {
+            return "0 значень";
+        }
+        String minValue = values[0];
+        String maxValue = values[0];
+        for (String value : values) {
+            if (value.compareTo(minValue) < 0) {
+                minValue = value;
+            }
+            if (value.compareTo(maxValue) > 0) {
+                maxValue = value;
+            }
+        }
+        return values.length + " значень, мін = \"" + minValue + "\", макс = \"" + maxValue + "\"";
+    }
+}
@@ -0,0 +1,331 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Клас DuckRegistrySnapshot — знімок реєстру качок в одному файлі, відображеному в пам'ять.
+ *
+ * <p>Формат (little-endian):</p>
+ * <pre>
+ * зміщення  розмір  поле
+ *  0        4       сигнатура "DUCK"
+ *  4        4       версія формату
+ *  8        4       місткість таблиці (степінь двійки)
+ * 12        4       кількість записів
+ * 16        4       кількість кличок
+ * 20        4       кількість власників
+ * 24        8       зміщення словника кличок
+ * 32        8       зміщення словника власників
+ * 40        8       зміщення індексу власник → качки
+ * 48        8       довжина файлу
+ * 64        ...     таблиця: місткість × {@value OffHeapDuckRegistry#RECORD_SIZE} байтів
+ *                   (ключ long, номер власника + 1 як int; 0 — порожня комірка)
+ * </pre>
+ *
+ * <p>Словник — це (кількість + 1) зміщень int у наступному за ними блоці рядків UTF-8.
+ * Індекс власників — (кількість власників + 1) початків int, а далі ключі long,
+ * згруповані за власником. Таблиця має ту саму розкладку й хешування, що й
+ * {@link OffHeapDuckRegistry}, тому відкритий знімок відповідає на запити без
+ * перехешування, а сторінки файлу підвантажуються лише при зверненні.</p>
+ */
+public class DuckRegistrySnapshot {
+    static final int MAGIC = 0x4B435544; // "DUCK" у little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    // файл відображається частинами по 1 ГБ з перекриттям, щоб значення на межі читалися з однієї частини
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+    private static final int CHUNK_OVERLAP = Long.BYTES;
+
+    private final MappedByteBuffer[] chunks;
+    private final int capacity;
+    private final int size;
+    private final int nicknameCount;
+    private final int ownerCount;
+    private final long nicknameDictionaryOffset;
+    private final long ownerDictionaryOffset;
+    private final long valueIndexOffset;
+    private Map<String, Integer> nicknameIds;
+    private Map<String, Integer> ownerIds;
+
+    private DuckRegistrySnapshot(MappedByteBuffer[] chunks, long fileLength) {
+        this.chunks = chunks;
+        if (fileLength < HEADER_SIZE || getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Файл не є знімком реєстру качок");
+        }
+        if (getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Непідтримувана версія знімка: " + getInt(4));
+        }
+        this.capacity = getInt(8);
+        this.size = getInt(12);
+        this.nicknameCount = getInt(16);
+        this.ownerCount = getInt(20);
+        this.nicknameDictionaryOffset = getLong(24);
+        this.ownerDictionaryOffset = getLong(32);
+        this.valueIndexOffset = getLong(40);
+        if (getLong(48) != fileLength || Integer.bitCount(capacity) != 1
+                || nicknameDictionaryOffset != HEADER_SIZE + (long) capacity * OffHeapDuckRegistry.RECORD_SIZE) {
+            throw new IllegalArgumentException("Знімок пошкоджений або обрізаний");
+        }
+    }
+
+    /**
+     * Записує реєстр у файл знімка (атомарно, через тимчасовий файл).
+     *
+     * @param registry Реєстр поза купою
+     * @param filePath Шлях до файлу знімка
+     * @throws IOException якщо запис не вдався
+     */
+    public static void write(OffHeapDuckRegistry registry, String filePath) throws IOException {
+        int capacity = registry.capacity();
+        StringDictionary nicknames = registry.nicknames();
+        StringDictionary owners = registry.owners();
+
+        // індекс власник → ключі: підрахунок, префіксні суми, розкладання
+        int[] ownerStarts = new int[owners.size() + 1];
+        for (int slot = 0; slot < capacity; slot++) {
+            int ownerSlot = registry.ownerSlotAt(slot);
+            if (ownerSlot != 0) {
+                ownerStarts[ownerSlot]++;
+            }
+        }
+        for (int i = 1; i < ownerStarts.length; i++) {
+            ownerStarts[i] += ownerStarts[i - 1];
+        }
+        long[] keysByOwner = new long[registry.size()];
+        int[] cursors = ownerStarts.clone();
+        for (int slot = 0; slot < capacity; slot++) {
+            int ownerSlot = registry.ownerSlotAt(slot);
+            if (ownerSlot != 0) {
+                keysByOwner[cursors[ownerSlot - 1]++] = registry.keyAt(slot);
+            }
+        }
+
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(filePath)) {
+            fileWriter.reserve(HEADER_SIZE);
+            for (int slot = 0; slot < capacity; slot++) {
+                fileWriter.writeLong(registry.keyAt(slot));
+                fileWriter.writeInt(registry.ownerSlotAt(slot));
+            }
+            long nicknameDictionaryOffset = HEADER_SIZE + (long) capacity * OffHeapDuckRegistry.RECORD_SIZE;
+            long ownerDictionaryOffset = nicknameDictionaryOffset + writeDictionary(fileWriter, nicknames);
+            long valueIndexOffset = ownerDictionaryOffset + writeDictionary(fileWriter, owners);
+            for (int start : ownerStarts) {
+                fileWriter.writeInt(start);
+            }
+            for (long key : keysByOwner) {
+                fileWriter.writeLong(key);
+            }
+            long fileLength = valueIndexOffset + (long) ownerStarts.length * Integer.BYTES + (long) keysByOwner.length * Long.BYTES;
+
+            java.nio.ByteBuffer header = java.nio.ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(capacity).putInt(registry.size())
+                .putInt(nicknames.size()).putInt(owners.size())
+                .putLong(nicknameDictionaryOffset).putLong(ownerDictionaryOffset).putLong(valueIndexOffset).putLong(fileLength);
+            header.rewind();
+            fileWriter.writeAt(header, 0);
+            fileWriter.commit();
+        }
+    }
+
+    private static long writeDictionary(AtomicFileWriter fileWriter, StringDictionary dictionary) throws IOException {
+        byte[][] encoded = new byte[dictionary.size()][];
+        int offset = 0;
+        for (int id = 0; id < encoded.length; id++) {
+            encoded[id] = dictionary.valueOf(id).getBytes(StandardCharsets.UTF_8);
+            fileWriter.writeInt(offset);
+            offset += encoded[id].length;
+        }
+        fileWriter.writeInt(offset);
+        for (byte[] bytes : encoded) {
+            fileWriter.writeBytes(bytes);
+        }
+        return (long) (encoded.length + 1) * Integer.BYTES + offset;
+    }
+
+    /**
+     * Відкриває знімок, відображаючи файл у пам'ять лише для читання.
+     *
+     * @param filePath Шлях до файлу знімка
+     * @return Знімок, готовий до запитів
+     * @throws IOException якщо файл неможливо відкрити
+     * @throws IllegalArgumentException якщо файл не є знімком або пошкоджений
+     */
+    public static DuckRegistrySnapshot open(String filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long fileLength = channel.size();
+            int chunkCount = (int) Math.max(1, (fileLength + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long position = (long) i << CHUNK_SHIFT;
+                long length = Math.min(CHUNK_SIZE + CHUNK_OVERLAP, fileLength - position);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new DuckRegistrySnapshot(chunks, fileLength);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Повертає власника качки прямо з відображеної таблиці.
+     *
+     * @param duck Качка
+     * @return Власник або null
+     */
+    public String get(BasicDataOperationUsingMap.Duck duck) {
+        Integer nicknameId = nicknameIds().get(duck.getNickname());
+        if (nicknameId == null) {
+            return null;
+        }
+        long key = CompactDuckRegistry.packKey(nicknameId, duck.getChicks());
+        int mask = capacity - 1;
+        int slot = LongIntHashMap.mix(key) & mask;
+        int ownerSlot;
+        while ((ownerSlot = getInt(recordOffset(slot) + Long.BYTES)) != 0) {
+            if (getLong(recordOffset(slot)) == key) {
+                return dictionaryValue(ownerDictionaryOffset, ownerCount, ownerSlot - 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Duck duck) {
+        return get(duck) != null;
+    }
+
+    /**
+     * Повертає качок власника з індексу знімка за O(k).
+     *
+     * @param owner Власник
+     * @return Список качок (порожній, якщо власника немає)
+     */
+    public List<BasicDataOperationUsingMap.Duck> ducksOf(String owner) {
+        List<BasicDataOperationUsingMap.Duck> ducks = new ArrayList<>();
+        Integer ownerId = ownerIds().get(owner);
+        if (ownerId == null) {
+            return ducks;
+        }
+        long keysOffset = valueIndexOffset + (long) (ownerCount + 1) * Integer.BYTES;
+        int from = getInt(valueIndexOffset + (long) ownerId * Integer.BYTES);
+        int to = getInt(valueIndexOffset + (long) (ownerId + 1) * Integer.BYTES);
+        for (int i = from; i < to; i++) {
+            long key = getLong(keysOffset + (long) i * Long.BYTES);
+            ducks.add(new BasicDataOperationUsingMap.Duck(
+                dictionaryValue(nicknameDictionaryOffset, nicknameCount, CompactDuckRegistry.nicknameIdOf(key)),
+                CompactDuckRegistry.chicksOf(key)));
+        }
+        return ducks;
+    }
+
+    /**
+     * Передає приймачу всі записи знімка в порядку комірок таблиці.
+     *
+     * @param action Приймач пари «качка → власник»
+     */
+    public void forEach(BiConsumer<BasicDataOperationUsingMap.Duck, String> action) {
+        String[] nicknames = dictionaryValues(nicknameDictionaryOffset, nicknameCount);
+        String[] owners = dictionaryValues(ownerDictionaryOffset, ownerCount);
+        for (int slot = 0; slot < capacity; slot++) {
+            int ownerSlot = getInt(recordOffset(slot) + Long.BYTES);
+            if (ownerSlot != 0) {
+                long key = getLong(recordOffset(slot));
+                action.accept(new BasicDataOperationUsingMap.Duck(nicknames[CompactDuckRegistry.nicknameIdOf(key)],
+                    CompactDuckRegistry.chicksOf(key)), owners[ownerSlot - 1]);
+            }
+        }
+    }
+
+    /**
+     * Відновлює змінюваний реєстр поза купою: записи копіюються комірка в комірку, без хешування.
+     *
+     * @return Новий реєстр з тим самим вмістом
+     */
+    public OffHeapDuckRegistry toRegistry() {
+        OffHeapDuckRegistry registry = OffHeapDuckRegistry.withCapacity(capacity);
+        for (int id = 0; id < nicknameCount; id++) {
+            registry.nicknames().intern(dictionaryValue(nicknameDictionaryOffset, nicknameCount, id));
+        }
+        for (int id = 0; id < ownerCount; id++) {
+            registry.owners().intern(dictionaryValue(ownerDictionaryOffset, ownerCount, id));
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            int ownerSlot = getInt(recordOffset(slot) + Long.BYTES);
+            if (ownerSlot != 0) {
+                registry.restoreRecord(slot, getLong(recordOffset(slot)), ownerSlot);
+            }
+        }
+        return registry;
+    }
+
+    // словники кличок і власників невеликі, тож хеш-таблиці для пошуку будуються при першому запиті
+    private Map<String, Integer> nicknameIds() {
+        if (nicknameIds == null) {
+            nicknameIds = loadDictionary(nicknameDictionaryOffset, nicknameCount);
+        }
+        return nicknameIds;
+    }
+
+    private Map<String, Integer> ownerIds() {
+        if (ownerIds == null) {
+            ownerIds = loadDictionary(ownerDictionaryOffset, ownerCount);
+        }
+        return ownerIds;
+    }
+
+    private Map<String, Integer> loadDictionary(long dictionaryOffset, int count) {
+        Map<String, Integer> ids = new HashMap<>(count * 2);
+        for (int id = 0; id < count; id++) {
+            ids.put(dictionaryValue(dictionaryOffset, count, id), id);
+        }
+        return ids;
+    }
+
+    private String[] dictionaryValues(long dictionaryOffset, int count) {
+        String[] values = new String[count];
+        for (int id = 0; id < count; id++) {
+            values[id] = dictionaryValue(dictionaryOffset, count, id);
+        }
+        return values;
+    }
+
+    private String dictionaryValue(long dictionaryOffset, int count, int id) {
+        long blobOffset = dictionaryOffset + (long) (count + 1) * Integer.BYTES;
+        int from = getInt(dictionaryOffset + (long) id * Integer.BYTES);
+        int to = getInt(dictionaryOffset + (long) (id + 1) * Integer.BYTES);
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = getByte(blobOffset + from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long recordOffset(int slot) {
+        return HEADER_SIZE + (long) slot * OffHeapDuckRegistry.RECORD_SIZE;
+    }
+
+    private byte getByte(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].get((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private int getInt(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getInt((int) (position & (CHUNK_SIZE - 1)));
+    }
+
+    private long getLong(long position) {
+        return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & (CHUNK_SIZE - 1)));
+    }
+}
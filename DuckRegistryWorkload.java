@@ -0,0 +1,162 @@
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Клас DuckRegistryWorkload — багатопотокове навантаження на реєстр качок.
+ *
+ * <p>Порівнює пропускну здатність Hashtable (один монітор на всю таблицю) і
+ * {@link ConcurrentDuckRegistry} для 1, 2, 4 ... N потоків на однаковій суміші
+ * операцій: 80% читань, 15% merge власника, 5% перереєстрацій. Реєстр при цьому
+ * ще й підтримує зворотний індекс власник → качки, якого в Hashtable немає.</p>
+ *
+ * <p>Використання: {@code java DuckRegistryWorkload [макс-потоків] [операцій-на-потік]}</p>
+ */
+public class DuckRegistryWorkload {
+    private static final int DUCK_COUNT = 100_000;
+    private static final int OWNER_COUNT = 1_000;
+    private static final int DEFAULT_OPERATIONS_PER_THREAD = 1_000_000;
+    private static final int READ_PERCENT = 80;
+    private static final int MERGE_PERCENT = 15;
+
+    private final BasicDataOperationUsingMap.Duck[] ducks = new BasicDataOperationUsingMap.Duck[DUCK_COUNT];
+    private final String[] ownerNames = new String[OWNER_COUNT];
+
+    /**
+     * Операції над реєстром, спільні для обох реалізацій.
+     */
+    private interface Registry {
+        String get(BasicDataOperationUsingMap.Duck duck);
+
+        void merge(BasicDataOperationUsingMap.Duck duck, String owner);
+
+        void put(BasicDataOperationUsingMap.Duck duck, String owner);
+    }
+
+    DuckRegistryWorkload() {
+        for (int i = 0; i < DUCK_COUNT; i++) {
+            ducks[i] = new BasicDataOperationUsingMap.Duck("Качка-" + (i % 10_000), i);
+        }
+        for (int i = 0; i < OWNER_COUNT; i++) {
+            ownerNames[i] = "Власник-" + i;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int operationsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_OPERATIONS_PER_THREAD;
+
+        DuckRegistryWorkload workload = new DuckRegistryWorkload();
+        System.out.println("Доступно ядер: " + Runtime.getRuntime().availableProcessors()
+            + ", операцій на потік: " + operationsPerThread);
+
+        // прогрів JIT на обох реалізаціях
+        workload.measure(workload.newHashtableRegistry(), 1, operationsPerThread);
+        workload.measure(workload.newConcurrentRegistry(), 1, operationsPerThread);
+
+        int threads = 1;
+        while (true) {
+            double hashtableThroughput = workload.measure(workload.newHashtableRegistry(), threads, operationsPerThread);
+            double concurrentThroughput = workload.measure(workload.newConcurrentRegistry(), threads, operationsPerThread);
+            System.out.printf("Потоків: %2d | Hashtable: %,14.0f оп/с | ConcurrentDuckRegistry: %,14.0f оп/с | x%.2f%n",
+                threads, hashtableThroughput, concurrentThroughput, concurrentThroughput / hashtableThroughput);
+            if (threads >= maxThreads) {
+                break;
+            }
+            threads = Math.min(threads * 2, maxThreads);
+        }
+    }
+
+    private Registry newHashtableRegistry() {
+        Hashtable<BasicDataOperationUsingMap.Duck, String> hashtable = new Hashtable<>(DUCK_COUNT * 2);
+        for (int i = 0; i < DUCK_COUNT; i++) {
+            hashtable.put(ducks[i], ownerNames[i % OWNER_COUNT]);
+        }
+        return new Registry() {
+            public String get(BasicDataOperationUsingMap.Duck duck) {
+                return hashtable.get(duck);
+            }
+
+            public void merge(BasicDataOperationUsingMap.Duck duck, String owner) {
+                hashtable.merge(duck, owner, (current, updated) -> updated);
+            }
+
+            public void put(BasicDataOperationUsingMap.Duck duck, String owner) {
+                hashtable.put(duck, owner);
+            }
+        };
+    }
+
+    private Registry newConcurrentRegistry() {
+        ConcurrentDuckRegistry registry = new ConcurrentDuckRegistry(DUCK_COUNT);
+        for (int i = 0; i < DUCK_COUNT; i++) {
+            registry.register(ducks[i], ownerNames[i % OWNER_COUNT]);
+        }
+        return new Registry() {
+            public String get(BasicDataOperationUsingMap.Duck duck) {
+                return registry.get(duck);
+            }
+
+            public void merge(BasicDataOperationUsingMap.Duck duck, String owner) {
+                registry.mergeOwner(duck, owner, (current, updated) -> updated);
+            }
+
+            public void put(BasicDataOperationUsingMap.Duck duck, String owner) {
+                registry.register(duck, owner);
+            }
+        };
+    }
+
+    /**
+     * Запускає навантаження в заданій кількості потоків.
+     *
+     * @return Пропускна здатність в операціях за секунду
+     */
+    private double measure(Registry registry, int threads, int operationsPerThread)
+            throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(() -> runOperations(registry, operationsPerThread));
+            }
+            long timeStart = System.nanoTime();
+            long checksum = 0;
+            for (Future<Long> result : executor.invokeAll(workers)) {
+                checksum += result.get();
+            }
+            long elapsed = System.nanoTime() - timeStart;
+            // контрольна сума не дає JIT викинути читання
+            if (checksum == Long.MIN_VALUE) {
+                System.out.println(checksum);
+            }
+            return (double) threads * operationsPerThread * 1_000_000_000L / elapsed;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long runOperations(Registry registry, int operations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long checksum = 0;
+        for (int i = 0; i < operations; i++) {
+            BasicDataOperationUsingMap.Duck duck = ducks[random.nextInt(DUCK_COUNT)];
+            int operation = random.nextInt(100);
+            if (operation < READ_PERCENT) {
+                String owner = registry.get(duck);
+                checksum += owner == null ? 0 : owner.length();
+            } else if (operation < READ_PERCENT + MERGE_PERCENT) {
+                registry.merge(duck, ownerNames[random.nextInt(OWNER_COUNT)]);
+            } else {
+                registry.put(duck, ownerNames[random.nextInt(OWNER_COUNT)]);
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,357 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Клас IncrementalDataFeed підтримує {@link IncrementalIntDataset} в актуальному стані,
+ * стежачи за файлами, що лише доповнюються.
+ *
+ * <p>Джерела змін:</p>
+ * <ul>
+ *   <li>файл даних (наприклад, {@code list/Integer.data}) — кожен дописаний рядок є вставкою;</li>
+ *   <li>журнал змін поруч із ним ({@value #CHANGE_LOG_SUFFIX}) з рядками
+ *       {@code INSERT <значення>} і {@code DELETE <значення>}, які застосовуються в порядку запису.</li>
+ * </ul>
+ *
+ * <p>Для кожного файлу запам'ятовується зсув уже прочитаних байтів, тож {@link #poll()}
+ * читає лише нові рядки. Незавершений останній рядок притримується, поки файл росте, і
+ * вважається повним, якщо файл не змінився з попереднього читання (або під час повного
+ * завантаження), тож файл без завершального переводу рядка читається до кінця.
+ * Файл .sorted переписується тільки після завершення ущільнення ({@link #compact()}), і
+ * поруч атомарно пишеться контрольна точка ({@value #CHECKPOINT_SUFFIX}): зсуви обох
+ * файлів, кількість значень і контрольна сума .sorted. Наступний запуск бере базу з
+ * .sorted без сортування і дочитує лише хвости файлів; якщо контрольна точка не збігається
+ * з .sorted (його переписав інший аналіз або запис перервався) або файл даних скоротився,
+ * дані завантажуються повністю.</p>
+ */
+public final class IncrementalDataFeed {
+    static final String SORTED_SUFFIX = ".sorted";
+    static final String CHANGE_LOG_SUFFIX = ".changes";
+    static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    static final String INSERT = "INSERT";
+    static final String DELETE = "DELETE";
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final String sortedFilePath;
+    private final String checkpointPath;
+    private final FileTail dataTail;
+    private final FileTail changeLogTail;
+    private IncrementalIntDataset dataset;
+    private boolean restoredFromCheckpoint;
+
+    /**
+     * Конструктор, який прив'язує стеження до файлу даних і його супутніх файлів.
+     *
+     * @param dataFilePath Шлях до файлу даних
+     */
+    public IncrementalDataFeed(String dataFilePath) {
+        this.sortedFilePath = dataFilePath + SORTED_SUFFIX;
+        this.checkpointPath = sortedFilePath + CHECKPOINT_SUFFIX;
+        this.dataTail = new FileTail(Path.of(dataFilePath));
+        this.changeLogTail = new FileTail(Path.of(dataFilePath + CHANGE_LOG_SUFFIX));
+    }
+
+    /**
+     * Відкриває набір: з контрольної точки, якщо вона дійсна, інакше повним завантаженням
+     * (після якого одразу ущільнює набір і записує .sorted з контрольною точкою).
+     *
+     * @return Набір даних
+     * @throws IOException якщо файли неможливо прочитати або записати
+     */
+    public IncrementalIntDataset open() throws IOException {
+        restoredFromCheckpoint = restoreFromCheckpoint();
+        if (!restoredFromCheckpoint) {
+            reload();
+        }
+        poll();
+        return dataset;
+    }
+
+    public IncrementalIntDataset dataset() {
+        return dataset;
+    }
+
+    /**
+     * Чи відкрито набір з контрольної точки (без повного завантаження).
+     *
+     * @return true, якщо база взята з .sorted
+     */
+    public boolean isRestoredFromCheckpoint() {
+        return restoredFromCheckpoint;
+    }
+
+    /**
+     * Чи з'явилися у файлах нові байти (або файл скоротився) з часу останнього читання.
+     *
+     * @return true, якщо {@link #poll()} має що читати
+     */
+    public boolean hasNewInput() {
+        return dataTail.hasNewInput() || changeLogTail.hasNewInput();
+    }
+
+    /**
+     * Застосовує нові рядки файлу даних і журналу змін.
+     *
+     * @return Кількість застосованих змін (пропущені видалення відсутніх значень не враховуються)
+     * @throws IOException якщо файли неможливо прочитати
+     */
+    public int poll() throws IOException {
+        IntTextParser insertParser = new IntTextParser(0);
+        if (!dataTail.readAppended(insertParser::parse, false)) {
+            System.out.println("⚠️ Файл " + dataTail.path + " скоротився, дані завантажуються повністю");
+            reload();
+            return dataset.size();
+        }
+        int[] inserted = insertParser.finish();
+        dataset.insertAll(inserted);
+
+        ChangeLogParser changeLogParser = new ChangeLogParser();
+        if (!changeLogTail.readAppended(changeLogParser::parse, false)) {
+            System.out.println("⚠️ Журнал " + changeLogTail.path + " скоротився, дані завантажуються повністю");
+            reload();
+            return dataset.size();
+        }
+        changeLogParser.flush();
+        return inserted.length + changeLogParser.applied;
+    }
+
+    /**
+     * Ущільнює набір, атомарно переписує .sorted і записує контрольну точку.
+     *
+     * @throws IOException якщо запис не вдався (попередні файли залишаються цілими)
+     */
+    public void compact() throws IOException {
+        int[] sortedValues = dataset.compact();
+        DataFileHandler.writeIntArrayToFile(sortedValues, sortedFilePath);
+        // контрольна точка пишеться після .sorted: якщо між записами стався збій,
+        // контрольна сума не збіжеться і наступний запуск завантажить дані повністю
+        try (AtomicFileWriter checkpointWriter = new AtomicFileWriter(checkpointPath)) {
+            checkpointWriter.writeLine(dataTail.offset);
+            checkpointWriter.writeLine(changeLogTail.offset);
+            checkpointWriter.writeLine(sortedValues.length);
+            checkpointWriter.writeLine(IncrementalIntDataset.checksum(sortedValues));
+            checkpointWriter.commit();
+        }
+    }
+
+    /**
+     * Повністю перечитує файл даних і журнал змін з початку та записує .sorted.
+     */
+    private void reload() throws IOException {
+        dataTail.reset(0);
+        changeLogTail.reset(0);
+        IntTextParser parser = new IntTextParser((int) Math.min(dataTail.length() / 8, Integer.MAX_VALUE - 8));
+        if (!dataTail.readAppended(parser::parse, true)) {
+            throw new IOException("Файл " + dataTail.path + " змінився під час читання");
+        }
+        dataset = IncrementalIntDataset.of(parser.finish());
+        ChangeLogParser changeLogParser = new ChangeLogParser();
+        if (!changeLogTail.readAppended(changeLogParser::parse, true)) {
+            throw new IOException("Журнал " + changeLogTail.path + " змінився під час читання");
+        }
+        changeLogParser.flush();
+        compact();
+    }
+
+    /**
+     * Відновлює базу з .sorted, якщо контрольна точка відповідає файлам.
+     *
+     * @return true, якщо відновлення вдалося
+     */
+    private boolean restoreFromCheckpoint() {
+        long[] checkpoint = readCheckpoint();
+        if (checkpoint == null) {
+            return false;
+        }
+        long dataOffset = checkpoint[0];
+        long changeLogOffset = checkpoint[1];
+        if (dataTail.length() < dataOffset || changeLogTail.length() < changeLogOffset
+                || !new File(sortedFilePath).isFile()) {
+            return false;
+        }
+        int[] sortedValues = DataFileHandler.loadIntArrayFromFileParallel(sortedFilePath);
+        if (sortedValues.length != checkpoint[2] || IncrementalIntDataset.checksum(sortedValues) != checkpoint[3]) {
+            System.out.println("⚠️ Файл " + sortedFilePath + " не відповідає контрольній точці, дані завантажуються повністю");
+            return false;
+        }
+        dataset = IncrementalIntDataset.ofSorted(sortedValues);
+        dataTail.reset(dataOffset);
+        changeLogTail.reset(changeLogOffset);
+        return true;
+    }
+
+    private long[] readCheckpoint() {
+        try {
+            List<String> lines = Files.readAllLines(Path.of(checkpointPath), StandardCharsets.US_ASCII);
+            if (lines.size() != 4) {
+                return null;
+            }
+            long[] checkpoint = new long[lines.size()];
+            for (int i = 0; i < checkpoint.length; i++) {
+                checkpoint[i] = Long.parseLong(lines.get(i).trim());
+            }
+            return checkpoint;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | NumberFormatException e) {
+            System.out.println("⚠️ Контрольна точка " + checkpointPath + " пошкоджена: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Приймач блоку байтів, що складається з повних рядків; останній рядок файлу може
+     * не мати завершального переводу рядка.
+     */
+    @FunctionalInterface
+    private interface LineBlockConsumer {
+        void accept(byte[] buffer, int from, int to);
+    }
+
+    /**
+     * Зсув прочитаної частини файлу, що лише доповнюється.
+     */
+    private static final class FileTail {
+        final Path path;
+        long offset;
+        // довжина файлу під час останнього читання: за нею видно, чи файл ще доповнюється
+        long scannedLength;
+
+        FileTail(Path path) {
+            this.path = path;
+        }
+
+        long length() {
+            return path.toFile().length();
+        }
+
+        boolean hasNewInput() {
+            // притриманий незавершений рядок теж чекає читання, щоб його прийняли, коли файл перестане рости
+            return length() != scannedLength || offset < scannedLength;
+        }
+
+        void reset(long newOffset) {
+            offset = newOffset;
+            scannedLength = newOffset;
+        }
+
+        /**
+         * Передає приймачу нові рядки від збереженого зсуву до кінця файлу на момент виклику.
+         * Байти після останнього переводу рядка передаються як останній рядок, лише якщо
+         * файл читається повністю або не виріс з попереднього читання; інакше вони чекають
+         * наступного виклику. Відсутній файл вважається порожнім.
+         *
+         * @param wholeFile true для повного завантаження з початку файлу
+         * @return false, якщо файл коротший за збережений зсув
+         */
+        boolean readAppended(LineBlockConsumer consumer, boolean wholeFile) throws IOException {
+            if (!Files.exists(path)) {
+                return offset == 0;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long end = channel.size();
+                if (end < offset) {
+                    return false;
+                }
+                boolean complete = wholeFile || end == scannedLength;
+                scannedLength = end;
+                byte[] buffer = new byte[READ_BUFFER_SIZE];
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                long position = offset;
+                int pending = 0;
+                while (position < end) {
+                    byteBuffer.limit((int) Math.min(buffer.length, pending + (end - position))).position(pending);
+                    int bytesRead = channel.read(byteBuffer, position);
+                    if (bytesRead <= 0) {
+                        break;
+                    }
+                    position += bytesRead;
+                    int length = pending + bytesRead;
+                    int lastLineEnd = length - 1;
+                    while (lastLineEnd >= 0 && buffer[lastLineEnd] != '\n') {
+                        lastLineEnd--;
+                    }
+                    if (lastLineEnd < 0) {
+                        if (length == buffer.length) {
+                            throw new IOException("Рядок у " + path + " довший за " + buffer.length + " байт");
+                        }
+                        pending = length;
+                        continue;
+                    }
+                    int from = offset == 0 ? DataFileHandler.skipByteOrderMark(buffer, length) : 0;
+                    consumer.accept(buffer, from, lastLineEnd + 1);
+                    offset += lastLineEnd + 1;
+                    pending = length - lastLineEnd - 1;
+                    System.arraycopy(buffer, lastLineEnd + 1, buffer, 0, pending);
+                }
+                if (pending > 0 && complete) {
+                    int from = offset == 0 ? DataFileHandler.skipByteOrderMark(buffer, pending) : 0;
+                    consumer.accept(buffer, from, pending);
+                    offset += pending;
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Розбирає рядки журналу змін і застосовує їх пакетами: послідовні операції одного
+     * виду збираються разом, а зміна виду скидає накопичений пакет, зберігаючи порядок.
+     */
+    private final class ChangeLogParser {
+        private final IntVector batch = new IntVector();
+        private String batchOperation;
+        int applied;
+
+        void parse(byte[] buffer, int from, int to) {
+            int lineStart = from;
+            for (int i = from; i < to; i++) {
+                if (buffer[i] == '\n') {
+                    parseLine(new String(buffer, lineStart, i - lineStart, StandardCharsets.US_ASCII).trim());
+                    lineStart = i + 1;
+                }
+            }
+            if (lineStart < to) {
+                parseLine(new String(buffer, lineStart, to - lineStart, StandardCharsets.US_ASCII).trim());
+            }
+        }
+
+        private void parseLine(String line) {
+            if (line.isEmpty()) {
+                return;
+            }
+            String[] parts = line.split("\\s+");
+            String operation = parts[0].toUpperCase(Locale.ROOT);
+            if (parts.length != 2 || !(INSERT.equals(operation) || DELETE.equals(operation))) {
+                throw new IllegalArgumentException("Некоректний рядок журналу змін: " + line);
+            }
+            if (!operation.equals(batchOperation)) {
+                flush();
+                batchOperation = operation;
+            }
+            batch.add(Integer.parseInt(parts[1]));
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            int[] values = batch.toArray();
+            if (INSERT.equals(batchOperation)) {
+                dataset.insertAll(values);
+                applied += values.length;
+            } else {
+                applied += dataset.deleteAll(values);
+            }
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,355 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас IncrementalIntDataset — набір значень int (мультимножина), який оновлюється змінами,
+ * а не повною перебудовою.
+ *
+ * <p>Дані зберігаються у стилі log-structured: компактний відсортований масив (база, та
+ * сама послідовність, що у файлі .sorted) плюс невеликі відсортовані прогони вставок і
+ * видалень, що надійшли після останнього ущільнення. Новий пакет змін сортується окремо
+ * і зливається з прогонами як у двійковому лічильнику (поки останній прогін не більший за
+ * новий), тож кожне значення зливається O(log k) разів, а вартість оновлення пропорційна
+ * розміру змін, а не всього набору. Поруч живуть структури, що оновлюються поелементно:</p>
+ * <ul>
+ *   <li>{@link IntCountMap} значення → кількість — для {@link #count(int)} і перевірки видалень;</li>
+ *   <li>{@link IntHashSet} різних значень — для {@link #contains(int)};</li>
+ *   <li>{@link IntMinMaxHeap} — для {@link #min()}/{@link #max()}; видалення в ній
+ *       лінійні, тож вони позначаються «надгробками» і знімаються, коли значення
+ *       опиняється на вершині.</li>
+ * </ul>
+ *
+ * <p>Ранг і діапазон рахуються як ранг у базі плюс ранги у прогонах вставок мінус ранги у
+ * прогонах видалень. {@link #compact()} за один лінійний прохід зливає все в нову базу;
+ * {@link #needsCompaction()} підказує, коли незлитих змін стало забагато. Клас не
+ * потокобезпечний.</p>
+ */
+public final class IncrementalIntDataset {
+    static final double DEFAULT_COMPACTION_RATIO = 0.25;
+    // нижня межа, щоб невеликі набори не ущільнювалися після кожної зміни
+    static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+    private int[] base;
+    private final SortedRuns inserts = new SortedRuns();
+    private final SortedRuns deletes = new SortedRuns();
+    private final IntCountMap counts;
+    private final IntHashSet distinct;
+    private IntMinMaxHeap heap;
+    private final IntCountMap heapTombstones = new IntCountMap(0);
+    private final IntSortEngine sortEngine = IntSortEngine.fromSystemProperty();
+    private final double compactionRatio;
+    private int size;
+
+    private IncrementalIntDataset(int[] sortedBase, double compactionRatio) {
+        this.base = sortedBase;
+        this.size = sortedBase.length;
+        this.compactionRatio = compactionRatio;
+        this.counts = new IntCountMap(sortedBase.length);
+        this.distinct = new IntHashSet(sortedBase.length, IntHashSet.DEFAULT_LOAD_FACTOR);
+        for (int value : sortedBase) {
+            counts.increment(value);
+            distinct.add(value);
+        }
+        this.heap = IntMinMaxHeap.of(sortedBase, false);
+    }
+
+    /**
+     * Будує набір з довільного масиву (масив не змінюється).
+     *
+     * @param values Значення у довільному порядку
+     * @return Новий набір
+     */
+    public static IncrementalIntDataset of(int[] values) {
+        int[] sortedBase = values.clone();
+        IntSortEngine.fromSystemProperty().sort(sortedBase);
+        return new IncrementalIntDataset(sortedBase, DEFAULT_COMPACTION_RATIO);
+    }
+
+    /**
+     * Будує набір з уже відсортованого масиву без повторного сортування.
+     *
+     * @param sortedValues Значення за неспаданням (масив переходить у власність набору)
+     * @return Новий набір
+     * @throws IllegalArgumentException якщо масив не відсортований
+     */
+    public static IncrementalIntDataset ofSorted(int[] sortedValues) {
+        for (int i = 1; i < sortedValues.length; i++) {
+            if (sortedValues[i - 1] > sortedValues[i]) {
+                throw new IllegalArgumentException("Масив не відсортований на позиції " + i);
+            }
+        }
+        return new IncrementalIntDataset(sortedValues, DEFAULT_COMPACTION_RATIO);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Кількість різних значень.
+     *
+     * @return Розмір множини значень
+     */
+    public int distinctCount() {
+        return distinct.size();
+    }
+
+    /**
+     * Кількість вставок і видалень, ще не злитих у базу.
+     *
+     * @return Кількість незлитих змін
+     */
+    public int pendingChanges() {
+        return inserts.size() + deletes.size();
+    }
+
+    /**
+     * Чи варто ущільнити набір: незлитих змін більше за частку бази (але не менше порогу).
+     *
+     * @return true, якщо час викликати {@link #compact()}
+     */
+    public boolean needsCompaction() {
+        return pendingChanges() >= Math.max(MIN_COMPACTION_THRESHOLD, (long) (base.length * compactionRatio));
+    }
+
+    /**
+     * Додає пакет значень.
+     *
+     * @param values Значення (масив не змінюється)
+     */
+    public void insertAll(int[] values) {
+        int[] run = values.clone();
+        sortEngine.sort(run);
+        for (int value : run) {
+            counts.increment(value);
+            distinct.add(value);
+            heap.add(value);
+        }
+        inserts.add(run);
+        size += run.length;
+    }
+
+    /**
+     * Видаляє по одному входженню кожного значення пакета; відсутні значення пропускаються.
+     *
+     * @param values Значення (масив не змінюється)
+     * @return Кількість фактично видалених значень
+     */
+    public int deleteAll(int[] values) {
+        int[] run = new int[values.length];
+        int removed = 0;
+        for (int value : values) {
+            if (counts.decrement(value)) {
+                if (counts.get(value) == 0) {
+                    distinct.remove(value);
+                }
+                heapTombstones.increment(value);
+                run[removed++] = value;
+            }
+        }
+        if (removed < run.length) {
+            int[] trimmed = new int[removed];
+            System.arraycopy(run, 0, trimmed, 0, removed);
+            run = trimmed;
+        }
+        sortEngine.sort(run);
+        deletes.add(run);
+        size -= removed;
+        return removed;
+    }
+
+    public boolean contains(int value) {
+        return distinct.contains(value);
+    }
+
+    /**
+     * Кількість входжень значення.
+     *
+     * @param value Значення
+     * @return Кількість або 0
+     */
+    public int count(int value) {
+        return counts.get(value);
+    }
+
+    /**
+     * Ранг значення: кількість елементів, строго менших за нього.
+     *
+     * @param value Значення
+     * @return Ранг у межах [0, size]
+     */
+    public int rank(int value) {
+        return lowerBound(base, value) + inserts.rank(value) - deletes.rank(value);
+    }
+
+    /**
+     * Кількість елементів у замкненому діапазоні [from, to].
+     *
+     * @param from Нижня межа (включно)
+     * @param to Верхня межа (включно)
+     * @return Кількість елементів
+     */
+    public int countInRange(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        int upper = to == Integer.MAX_VALUE ? size : rank(to + 1);
+        return upper - rank(from);
+    }
+
+    public int min() {
+        requireNotEmpty();
+        while (heapTombstones.decrement(heap.peekMin())) {
+            heap.pollMin();
+        }
+        return heap.peekMin();
+    }
+
+    public int max() {
+        requireNotEmpty();
+        while (heapTombstones.decrement(heap.peekMax())) {
+            heap.pollMax();
+        }
+        return heap.peekMax();
+    }
+
+    /**
+     * Зливає базу з прогонами вставок за вирахуванням видалень в одну нову базу за O(n).
+     * Купа перебудовується з нової бази, надгробки скидаються.
+     *
+     * @return Нова база за неспаданням (масив належить набору, його не можна змінювати)
+     */
+    public int[] compact() {
+        if (pendingChanges() == 0) {
+            return base;
+        }
+        int[] inserted = inserts.drain();
+        int[] deleted = deletes.drain();
+        int[] merged = new int[size];
+        int baseIndex = 0;
+        int insertIndex = 0;
+        int deleteIndex = 0;
+        int count = 0;
+        while (baseIndex < base.length || insertIndex < inserted.length) {
+            int value;
+            if (insertIndex == inserted.length
+                    || (baseIndex < base.length && base[baseIndex] <= inserted[insertIndex])) {
+                value = base[baseIndex++];
+            } else {
+                value = inserted[insertIndex++];
+            }
+            // видалення — підмножина бази і вставок, тож надгробок збігається з поточним значенням
+            if (deleteIndex < deleted.length && deleted[deleteIndex] == value) {
+                deleteIndex++;
+            } else {
+                merged[count++] = value;
+            }
+        }
+        base = merged;
+        heap = IntMinMaxHeap.of(merged, false);
+        heapTombstones.clear();
+        return base;
+    }
+
+    /**
+     * Контрольна сума відсортованого вмісту (для перевірки, що файл .sorted відповідає набору).
+     *
+     * @param sortedValues Значення за неспаданням
+     * @return Контрольна сума
+     */
+    static long checksum(int[] sortedValues) {
+        long checksum = sortedValues.length;
+        for (int value : sortedValues) {
+            checksum = checksum * 31 + value;
+        }
+        return checksum;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Набір даних порожній");
+        }
+    }
+
+    /**
+     * Позиція першого елемента, не меншого за значення.
+     */
+    private static int lowerBound(int[] sortedValues, int value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedValues[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int[] merge(int[] left, int[] right) {
+        int[] merged = new int[left.length + right.length];
+        int leftIndex = 0;
+        int rightIndex = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (rightIndex == right.length || (leftIndex < left.length && left[leftIndex] <= right[rightIndex])) {
+                merged[i] = left[leftIndex++];
+            } else {
+                merged[i] = right[rightIndex++];
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Відсортовані прогони, впорядковані від найбільшого до найменшого.
+     */
+    private static final class SortedRuns {
+        private final List<int[]> runs = new ArrayList<>();
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(int[] sortedRun) {
+            if (sortedRun.length == 0) {
+                return;
+            }
+            size += sortedRun.length;
+            int[] run = sortedRun;
+            while (!runs.isEmpty() && runs.get(runs.size() - 1).length <= run.length) {
+                run = merge(runs.remove(runs.size() - 1), run);
+            }
+            runs.add(run);
+        }
+
+        int rank(int value) {
+            int rank = 0;
+            for (int i = 0; i < runs.size(); i++) {
+                rank += lowerBound(runs.get(i), value);
+            }
+            return rank;
+        }
+
+        /**
+         * Зливає всі прогони в один і очищає список.
+         */
+        int[] drain() {
+            int[] merged = new int[0];
+            // від найменшого прогону, щоб великі копіювалися якомога рідше
+            for (int i = runs.size() - 1; i >= 0; i--) {
+                merged = merge(runs.get(i), merged);
+            }
+            runs.clear();
+            size = 0;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+import java.util.Arrays;
+
+/**
+ * Клас IntCountMap — хеш-таблиця з відкритою адресацією, яка рахує входження значень int.
+ *
+ * <p>Ключі і лічильники зберігаються у двох паралельних примітивних масивах
+ * з лінійним зондуванням, тому операції не створюють об'єктів. Видалення
+ * виконується зі зсувом наступних елементів кластера (без «надгробків»).</p>
+ */
+final class IntCountMap {
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] counts;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Конструктор, який створює таблицю під очікувану кількість різних значень.
+     *
+     * @param expectedSize Очікувана кількість різних значень
+     */
+    IntCountMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Кількість різних значень у таблиці.
+     *
+     * @return Кількість ключів
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Повертає кількість входжень значення.
+     *
+     * @param key Значення
+     * @return Лічильник або 0, якщо значення відсутнє
+     */
+    int get(int key) {
+        int slot = mix(key) & mask;
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Збільшує лічильник значення на одиницю.
+     *
+     * @param key Значення
+     */
+    void increment(int key) {
+        int slot = mix(key) & mask;
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                counts[slot]++;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        counts[slot] = 1;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Зменшує лічильник значення на одиницю і видаляє ключ, коли лічильник досягає нуля.
+     *
+     * @param key Значення
+     * @return true, якщо значення було присутнє
+     */
+    boolean decrement(int key) {
+        int slot = mix(key) & mask;
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                if (--counts[slot] == 0) {
+                    size--;
+                    shiftClusterBack(slot);
+                }
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    void clear() {
+        Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    /**
+     * Після звільнення комірки переносить назад елементи кластера, які без неї стали б недосяжні.
+     */
+    private void shiftClusterBack(int freeSlot) {
+        int slot = freeSlot;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (counts[slot] == 0) {
+                return;
+            }
+            int home = mix(keys[slot]) & mask;
+            // елемент можна перенести, якщо його домашня комірка не лежить між freeSlot і slot (циклічно)
+            boolean movable = freeSlot <= slot ? (home <= freeSlot || home > slot) : (home <= freeSlot && home > slot);
+            if (movable) {
+                keys[freeSlot] = keys[slot];
+                counts[freeSlot] = counts[slot];
+                counts[slot] = 0;
+                freeSlot = slot;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (counts[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Перемішує біти ключа (фіналізатор MurmurHash3), щоб послідовні значення не утворювали кластерів.
+     */
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
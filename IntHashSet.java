@@ -0,0 +1,285 @@
+import java.util.Arrays;
+
+/**
+ * Клас IntHashSet — множина значень int з відкритою адресацією та лінійним зондуванням.
+ *
+ * <p>Значення зберігаються прямо в масиві int (4 байти на комірку) замість
+ * упакованого Integer та вузла HashMap (~48 байтів на значення у HashSet).
+ * Значення 0 використовується як позначка порожньої комірки, тому його наявність
+ * зберігається окремим прапорцем. Мін/макс підтримуються інкрементально під час
+ * додавання; видалення поточного мін/макс лише позначає їх для перерахунку.</p>
+ */
+public class IntHashSet {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    private final float loadFactor;
+    private int[] table;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private boolean containsZero;
+
+    private boolean extremesValid = true;
+    private int minValue = Integer.MAX_VALUE;
+    private int maxValue = Integer.MIN_VALUE;
+
+    /**
+     * Конструктор, який створює порожню множину зі стандартним коефіцієнтом заповнення.
+     */
+    public IntHashSet() {
+        this(MIN_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Конструктор, який створює порожню множину під очікувану кількість значень.
+     *
+     * @param expectedSize Очікувана кількість значень
+     * @param loadFactor Коефіцієнт заповнення таблиці (0.1..0.95)
+     */
+    public IntHashSet(int expectedSize, float loadFactor) {
+        if (!(loadFactor >= 0.1f && loadFactor <= 0.95f)) {
+            throw new IllegalArgumentException("Коефіцієнт заповнення має бути в межах 0.1..0.95: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(expectedSize, loadFactor));
+    }
+
+    /**
+     * Будує множину з масиву за один прохід, одразу виділивши таблицю потрібного розміру.
+     *
+     * @param values Масив значень (дублікати відкидаються)
+     * @param loadFactor Коефіцієнт заповнення
+     * @return Нова множина
+     */
+    public static IntHashSet of(int[] values, float loadFactor) {
+        IntHashSet set = new IntHashSet(values.length, loadFactor);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Додає значення до множини.
+     *
+     * @param value Значення
+     * @return true, якщо значення було додано (його ще не було)
+     * @throws IllegalStateException якщо таблиця максимальної місткості заповнена
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+        } else {
+            int slot = IntCountMap.mix(value) & mask;
+            int current;
+            while ((current = table[slot]) != 0) {
+                if (current == value) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // одна комірка завжди лишається порожньою, інакше зондування відсутнього значення не зупиниться
+            if (table.length == MAX_CAPACITY && size - (containsZero ? 1 : 0) == mask) {
+                throw new IllegalStateException("Множина заповнена: досягнуто максимальної місткості " + MAX_CAPACITY);
+            }
+            table[slot] = value;
+        }
+        size++;
+        if (extremesValid) {
+            minValue = Math.min(minValue, value);
+            maxValue = Math.max(maxValue, value);
+        }
+        if (size > resizeThreshold && table.length < MAX_CAPACITY) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Перевіряє наявність значення.
+     *
+     * @param value Значення
+     * @return true, якщо значення є у множині
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int slot = IntCountMap.mix(value) & mask;
+        int current;
+        while ((current = table[slot]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Видаляє значення зі зсувом наступних елементів кластера.
+     *
+     * @param value Значення
+     * @return true, якщо значення було видалено
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+        } else {
+            int slot = IntCountMap.mix(value) & mask;
+            int current;
+            while ((current = table[slot]) != value) {
+                if (current == 0) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            shiftClusterBack(slot);
+        }
+        size--;
+        if (value == minValue || value == maxValue) {
+            extremesValid = false;
+        }
+        return true;
+    }
+
+    /**
+     * Повертає мінімальне значення множини (O(1), якщо мінімум не видалявся).
+     *
+     * @return Мінімум
+     * @throws IllegalStateException якщо множина порожня
+     */
+    public int min() {
+        ensureExtremes();
+        return minValue;
+    }
+
+    /**
+     * Повертає максимальне значення множини (O(1), якщо максимум не видалявся).
+     *
+     * @return Максимум
+     * @throws IllegalStateException якщо множина порожня
+     */
+    public int max() {
+        ensureExtremes();
+        return maxValue;
+    }
+
+    /**
+     * Копіює значення множини у масив (порядок не визначений).
+     *
+     * @return Масив значень
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int index = 0;
+        if (containsZero) {
+            result[index++] = 0;
+        }
+        for (int value : table) {
+            if (value != 0) {
+                result[index++] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Оцінює обсяг пам'яті, зайнятий таблицею.
+     *
+     * @return Кількість байтів
+     */
+    public long footprintBytes() {
+        return (long) table.length * Integer.BYTES;
+    }
+
+    private void ensureExtremes() {
+        if (size == 0) {
+            throw new IllegalStateException("Множина порожня");
+        }
+        if (extremesValid) {
+            return;
+        }
+        int newMin = containsZero ? 0 : Integer.MAX_VALUE;
+        int newMax = containsZero ? 0 : Integer.MIN_VALUE;
+        for (int value : table) {
+            if (value != 0) {
+                newMin = Math.min(newMin, value);
+                newMax = Math.max(newMax, value);
+            }
+        }
+        minValue = newMin;
+        maxValue = newMax;
+        extremesValid = true;
+    }
+
+    private void shiftClusterBack(int freeSlot) {
+        int slot = freeSlot;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int current = table[slot];
+            if (current == 0) {
+                table[freeSlot] = 0;
+                return;
+            }
+            int home = IntCountMap.mix(current) & mask;
+            boolean movable = freeSlot <= slot ? (home <= freeSlot || home > slot) : (home <= freeSlot && home > slot);
+            if (movable) {
+                table[freeSlot] = current;
+                freeSlot = slot;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldTable = table;
+        allocate(newCapacity);
+        for (int value : oldTable) {
+            if (value != 0) {
+                int slot = IntCountMap.mix(value) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * loadFactor);
+    }
+
+    private static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        int[] values = toArray();
+        Arrays.sort(values);
+        return Arrays.toString(values);
+    }
+}
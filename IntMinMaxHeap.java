@@ -0,0 +1,269 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас IntMinMaxHeap — двостороння черга з пріоритетом (min-max купа) для значень int.
+ *
+ * <p>Елементи на парних рівнях дерева не більші за своїх нащадків, на непарних —
+ * не менші. Тому мінімум завжди в корені, а максимум — один з двох його нащадків:</p>
+ * <ul>
+ *   <li>{@link #peekMin()} і {@link #peekMax()} — O(1);</li>
+ *   <li>{@link #add(int)}, {@link #pollMin()} і {@link #pollMax()} — O(log n);</li>
+ *   <li>{@link #contains(int)} — O(1) з увімкненим індексом значення → кількість, інакше O(n).</li>
+ * </ul>
+ */
+public class IntMinMaxHeap {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] heap;
+    private int size;
+    private final IntCountMap valueIndex;
+
+    /**
+     * Конструктор, який створює порожню купу.
+     *
+     * @param initialCapacity Початкова місткість
+     * @param indexed Чи вести індекс значень для швидкого contains
+     */
+    public IntMinMaxHeap(int initialCapacity, boolean indexed) {
+        this.heap = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+        this.valueIndex = indexed ? new IntCountMap(initialCapacity) : null;
+    }
+
+    /**
+     * Будує купу з масиву за O(n) (просіювання вниз від останнього внутрішнього вузла).
+     *
+     * @param values Масив значень
+     * @param indexed Чи вести індекс значень для швидкого contains
+     * @return Нова купа
+     */
+    public static IntMinMaxHeap of(int[] values, boolean indexed) {
+        IntMinMaxHeap minMaxHeap = new IntMinMaxHeap(values.length, indexed);
+        System.arraycopy(values, 0, minMaxHeap.heap, 0, values.length);
+        minMaxHeap.size = values.length;
+        for (int i = (values.length >>> 1) - 1; i >= 0; i--) {
+            minMaxHeap.trickleDown(i);
+        }
+        if (indexed) {
+            for (int value : values) {
+                minMaxHeap.valueIndex.increment(value);
+            }
+        }
+        return minMaxHeap;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isIndexed() {
+        return valueIndex != null;
+    }
+
+    /**
+     * Додає значення до купи.
+     *
+     * @param value Значення
+     */
+    public void add(int value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length + (heap.length >> 1));
+        }
+        heap[size] = value;
+        bubbleUp(size++);
+        if (valueIndex != null) {
+            valueIndex.increment(value);
+        }
+    }
+
+    /**
+     * Повертає мінімальне значення без видалення.
+     *
+     * @return Мінімум
+     * @throws NoSuchElementException якщо купа порожня
+     */
+    public int peekMin() {
+        requireNotEmpty();
+        return heap[0];
+    }
+
+    /**
+     * Повертає максимальне значення без видалення.
+     *
+     * @return Максимум
+     * @throws NoSuchElementException якщо купа порожня
+     */
+    public int peekMax() {
+        return heap[maxIndex()];
+    }
+
+    /**
+     * Видаляє і повертає мінімальне значення.
+     *
+     * @return Мінімум
+     * @throws NoSuchElementException якщо купа порожня
+     */
+    public int pollMin() {
+        requireNotEmpty();
+        return removeAt(0);
+    }
+
+    /**
+     * Видаляє і повертає максимальне значення.
+     *
+     * @return Максимум
+     * @throws NoSuchElementException якщо купа порожня
+     */
+    public int pollMax() {
+        return removeAt(maxIndex());
+    }
+
+    /**
+     * Перевіряє наявність значення: через індекс за O(1) або лінійним переглядом.
+     *
+     * @param value Значення
+     * @return true, якщо значення є в купі
+     */
+    public boolean contains(int value) {
+        if (valueIndex != null) {
+            return valueIndex.get(value) > 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Кількість входжень значення (потребує індексу).
+     *
+     * @param value Значення
+     * @return Кількість входжень
+     * @throws IllegalStateException якщо індекс вимкнено
+     */
+    public int count(int value) {
+        if (valueIndex == null) {
+            throw new IllegalStateException("Індекс значень вимкнено");
+        }
+        return valueIndex.get(value);
+    }
+
+    private int maxIndex() {
+        requireNotEmpty();
+        if (size == 1) {
+            return 0;
+        }
+        if (size == 2) {
+            return 1;
+        }
+        return heap[1] >= heap[2] ? 1 : 2;
+    }
+
+    private int removeAt(int index) {
+        int removed = heap[index];
+        heap[index] = heap[--size];
+        // останній елемент не менший за корінь, тому достатньо просіювання вниз
+        if (index < size) {
+            trickleDown(index);
+        }
+        if (valueIndex != null) {
+            valueIndex.decrement(removed);
+        }
+        return removed;
+    }
+
+    private static boolean isMinLevel(int index) {
+        return ((31 - Integer.numberOfLeadingZeros(index + 1)) & 1) == 0;
+    }
+
+    private void bubbleUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = (index - 1) >>> 1;
+        if (isMinLevel(index)) {
+            if (heap[index] > heap[parent]) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, false);
+            } else {
+                bubbleUpGrandparents(index, true);
+            }
+        } else {
+            if (heap[index] < heap[parent]) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, true);
+            } else {
+                bubbleUpGrandparents(index, false);
+            }
+        }
+    }
+
+    private void bubbleUpGrandparents(int index, boolean minLevel) {
+        while (index > 2) {
+            int grandparent = (((index - 1) >>> 1) - 1) >>> 1;
+            if (minLevel ? heap[index] < heap[grandparent] : heap[index] > heap[grandparent]) {
+                swap(index, grandparent);
+                index = grandparent;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void trickleDown(int index) {
+        boolean minLevel = isMinLevel(index);
+        while (true) {
+            int firstChild = 2 * index + 1;
+            if (firstChild >= size) {
+                return;
+            }
+            // найменший (або найбільший) серед дітей та онуків
+            int best = firstChild;
+            if (firstChild + 1 < size && isBetter(firstChild + 1, best, minLevel)) {
+                best = firstChild + 1;
+            }
+            int firstGrandchild = 4 * index + 3;
+            int lastGrandchild = Math.min(firstGrandchild + 3, size - 1);
+            for (int grandchild = firstGrandchild; grandchild <= lastGrandchild; grandchild++) {
+                if (isBetter(grandchild, best, minLevel)) {
+                    best = grandchild;
+                }
+            }
+
+            if (!isBetter(best, index, minLevel)) {
+                return;
+            }
+            swap(index, best);
+            if (best <= firstChild + 1) {
+                return;
+            }
+            int parent = (best - 1) >>> 1;
+            if (isBetter(parent, best, minLevel)) {
+                swap(best, parent);
+            }
+            index = best;
+        }
+    }
+
+    private boolean isBetter(int candidate, int current, boolean minLevel) {
+        return minLevel ? heap[candidate] < heap[current] : heap[candidate] > heap[current];
+    }
+
+    private void swap(int first, int second) {
+        int temporary = heap[first];
+        heap[first] = heap[second];
+        heap[second] = temporary;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Купа порожня");
+        }
+    }
+}
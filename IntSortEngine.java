@@ -0,0 +1,198 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Клас IntSortEngine сортує цілі числа у примітивному масиві int, обираючи алгоритм за розміром.
+ *
+ * <p>Стратегії:</p>
+ * <ul>
+ *   <li>{@link Strategy#INSERTION} — сортування вставками на місці, для дуже малих масивів;</li>
+ *   <li>{@link Strategy#DUAL_PIVOT} — однопотоковий Arrays.sort(int[]);</li>
+ *   <li>{@link Strategy#PARALLEL} — Arrays.parallelSort на спільному ForkJoinPool;</li>
+ *   <li>{@link Strategy#RADIX} — порозрядне LSD-сортування 32-бітних ключів (4 проходи по 8 біт);</li>
+ *   <li>{@link Strategy#AUTO} — вибір однієї з наведених вище за розміром масиву та кількістю ядер.</li>
+ * </ul>
+ *
+ * <p>Стратегію за замовчуванням можна задати властивістю JVM {@code -Dsort.strategy=RADIX}.</p>
+ */
+public class IntSortEngine {
+
+    /**
+     * Алгоритм сортування.
+     */
+    public enum Strategy {
+        AUTO,
+        INSERTION,
+        DUAL_PIVOT,
+        PARALLEL,
+        RADIX
+    }
+
+    static final int INSERTION_THRESHOLD = 48;
+    static final int PARALLEL_THRESHOLD = 1 << 17;
+    static final int RADIX_THRESHOLD = 1 << 16;
+    private static final int RADIX = 256;
+
+    private final Strategy strategy;
+
+    /**
+     * Конструктор, який створює рушій із заданою стратегією.
+     *
+     * @param strategy Стратегія сортування
+     */
+    public IntSortEngine(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Створює рушій зі стратегією з властивості {@code sort.strategy} або AUTO.
+     *
+     * @return Рушій сортування
+     */
+    public static IntSortEngine fromSystemProperty() {
+        String configured = System.getProperty("sort.strategy");
+        if (configured == null || configured.isBlank()) {
+            return new IntSortEngine(Strategy.AUTO);
+        }
+        try {
+            return new IntSortEngine(Strategy.valueOf(configured.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠️ Невідома стратегія сортування '" + configured + "', використовується AUTO");
+            return new IntSortEngine(Strategy.AUTO);
+        }
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Визначає фактичний алгоритм для масиву заданого розміру.
+     *
+     * @param length Кількість елементів
+     * @return Стратегія, відмінна від AUTO
+     */
+    public Strategy resolve(int length) {
+        if (strategy != Strategy.AUTO) {
+            return strategy;
+        }
+        if (length <= INSERTION_THRESHOLD) {
+            return Strategy.INSERTION;
+        }
+        if (length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return Strategy.PARALLEL;
+        }
+        if (length >= RADIX_THRESHOLD) {
+            return Strategy.RADIX;
+        }
+        return Strategy.DUAL_PIVOT;
+    }
+
+    /**
+     * Сортує масив int на місці.
+     *
+     * @param values Масив значень
+     * @return Використана стратегія
+     */
+    public Strategy sort(int[] values) {
+        Strategy chosen = resolve(values.length);
+        switch (chosen) {
+            case INSERTION:
+                insertionSort(values, 0, values.length);
+                break;
+            case PARALLEL:
+                Arrays.parallelSort(values);
+                break;
+            case RADIX:
+                radixSort(values);
+                break;
+            default:
+                Arrays.sort(values);
+                break;
+        }
+        return chosen;
+    }
+
+    /**
+     * Сортує масив Integer: розпаковує його в int[], сортує і записує значення назад.
+     * Масив не повинен містити null.
+     *
+     * @param values Масив Integer
+     * @return Використана стратегія
+     */
+    public Strategy sort(Integer[] values) {
+        int[] unboxed = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            unboxed[i] = values[i];
+        }
+        Strategy chosen = sort(unboxed);
+        for (int i = 0; i < values.length; i++) {
+            // той самий об'єкт, якщо значення на позиції не змінилося
+            if (values[i] != unboxed[i]) {
+                values[i] = unboxed[i];
+            }
+        }
+        return chosen;
+    }
+
+    static void insertionSort(int[] values, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int current = values[i];
+            int j = i - 1;
+            while (j >= from && values[j] > current) {
+                values[j + 1] = values[j];
+                j--;
+            }
+            values[j + 1] = current;
+        }
+    }
+
+    /**
+     * Порозрядне LSD-сортування: 4 стабільні проходи по 8 біт з інверсією знакового біта,
+     * щоб від'ємні числа опинилися перед додатними. Прохід пропускається, якщо всі ключі
+     * мають однаковий байт у цьому розряді.
+     */
+    static void radixSort(int[] values) {
+        int length = values.length;
+        if (length < 2) {
+            return;
+        }
+        int[] source = values;
+        int[] target = new int[length];
+        int[][] counts = new int[4][RADIX];
+
+        // одна гістограма на всі 4 розряди за один прохід
+        for (int value : values) {
+            int key = value ^ Integer.MIN_VALUE;
+            counts[0][key & 0xFF]++;
+            counts[1][(key >>> 8) & 0xFF]++;
+            counts[2][(key >>> 16) & 0xFF]++;
+            counts[3][key >>> 24]++;
+        }
+
+        for (int digit = 0; digit < 4; digit++) {
+            int[] count = counts[digit];
+            int shift = digit * 8;
+            if (count[((source[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFF] == length) {
+                continue;
+            }
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+            for (int i = 0; i < length; i++) {
+                int value = source[i];
+                target[count[((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, length);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Клас IntTextParser розбирає десяткові цілі числа безпосередньо з байтів текстового файлу.
+ *
+ * <p>Числа розділяються будь-якими пробільними символами (код &lt;= ' '), тому
+ * підтримуються закінчення рядків LF і CRLF. Стан розбору зберігається між
+ * викликами {@link #parse(byte[], int, int)}, отже число може бути розірване
+ * між двома буферами читання. Значення накопичуються в примітивному масиві int,
+ * який зростає за потреби — без упаковки в Integer і без створення рядків.</p>
+ */
+final class IntTextParser {
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long NEGATIVE_LIMIT = -(long) Integer.MIN_VALUE;
+
+    private int[] values;
+    private int count;
+
+    private long accumulator;
+    private boolean negative;
+    private boolean signSeen;
+    private boolean digitsSeen;
+
+    /**
+     * Конструктор, який створює парсер з початковою місткістю буфера.
+     *
+     * @param initialCapacity Очікувана кількість значень
+     */
+    IntTextParser(int initialCapacity) {
+        this.values = new int[Math.max(initialCapacity, DEFAULT_CAPACITY)];
+    }
+
+    /**
+     * Розбирає байти буфера в діапазоні [from, to).
+     *
+     * @param buffer Буфер з байтами тексту
+     * @param from Початкова позиція (включно)
+     * @param to Кінцева позиція (не включно)
+     * @throws NumberFormatException якщо зустрівся некоректний символ або переповнення int
+     */
+    void parse(byte[] buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int b = buffer[i];
+            if (b >= '0' && b <= '9') {
+                accumulator = accumulator * 10 + (b - '0');
+                if (accumulator > NEGATIVE_LIMIT) {
+                    throw new NumberFormatException("Значення виходить за межі int на позиції " + i);
+                }
+                digitsSeen = true;
+            } else if (b >= 0 && b <= ' ') {
+                completeNumber();
+            } else if ((b == '-' || b == '+') && !signSeen && !digitsSeen) {
+                negative = b == '-';
+                signSeen = true;
+            } else {
+                throw new NumberFormatException("Некоректний символ з кодом " + (b & 0xFF) + " на позиції " + i);
+            }
+        }
+    }
+
+    /**
+     * Завершує розбір: зберігає останнє число, якщо файл не закінчується переведенням рядка.
+     *
+     * @return Масив розібраних значень точного розміру
+     */
+    int[] finish() {
+        completeNumber();
+        if (count == values.length) {
+            return values;
+        }
+        int[] resultArray = new int[count];
+        System.arraycopy(values, 0, resultArray, 0, count);
+        return resultArray;
+    }
+
+    /**
+     * Повертає кількість вже розібраних значень.
+     *
+     * @return Кількість значень
+     */
+    int size() {
+        return count;
+    }
+
+    private void completeNumber() {
+        if (!digitsSeen) {
+            if (signSeen) {
+                throw new NumberFormatException("Знак без цифр після нього");
+            }
+            return;
+        }
+        long value = negative ? -accumulator : accumulator;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Значення виходить за межі int: " + value);
+        }
+        if (count == values.length) {
+            int[] grown = new int[values.length + (values.length >> 1)];
+            System.arraycopy(values, 0, grown, 0, count);
+            values = grown;
+        }
+        values[count++] = (int) value;
+
+        accumulator = 0;
+        negative = false;
+        signSeen = false;
+        digitsSeen = false;
+    }
+}
@@ -0,0 +1,348 @@
+import java.util.Arrays;
+
+/**
+ * Клас IntVector — несинхронізований список значень int, що зростає за потреби.
+ *
+ * <p>На відміну від {@code Vector<Integer>}, значення зберігаються в примітивному
+ * масиві int: доступ не бере монітор і не упаковує кожен елемент в Integer.
+ * Сортування, двійковий пошук і пошук мін/макс працюють прямо з масивом.</p>
+ *
+ * <p>Список відстежує власну впорядкованість і кешує мін/макс: для впорядкованих
+ * даних мін/макс — це крайні елементи, а {@link #find(int)} сам обирає двійковий
+ * чи лінійний пошук. Кеш інвалідується лише змінами, які можуть його зачепити.</p>
+ */
+public class IntVector {
+    private static final int DEFAULT_CAPACITY = 16;
+    // межа розміру масиву, яку гарантовано підтримують усі JVM
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int[] elements;
+    private int size;
+    private boolean sorted = true;
+    private boolean extremesValid;
+    private int cachedMin;
+    private int cachedMax;
+
+    /**
+     * Конструктор, який створює порожній список зі стандартною місткістю.
+     */
+    public IntVector() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор, який створює порожній список із заданою місткістю.
+     *
+     * @param initialCapacity Початкова місткість
+     */
+    public IntVector(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Від'ємна місткість: " + initialCapacity);
+        }
+        this.elements = new int[initialCapacity];
+    }
+
+    /**
+     * Конструктор, який копіює значення з масиву int.
+     *
+     * @param values Масив значень
+     */
+    public IntVector(int[] values) {
+        this.elements = Arrays.copyOf(values, values.length);
+        this.size = values.length;
+        this.sorted = checkSorted();
+    }
+
+    /**
+     * Створює список з масиву Integer, розпаковуючи значення один раз.
+     *
+     * @param values Масив Integer
+     * @return Новий список
+     */
+    public static IntVector fromBoxed(Integer[] values) {
+        IntVector vector = new IntVector(values.length);
+        for (Integer value : values) {
+            vector.elements[vector.size++] = value;
+        }
+        vector.sorted = vector.checkSorted();
+        return vector;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Замінює значення за індексом.
+     *
+     * @param index Індекс
+     * @param value Нове значення
+     * @return Попереднє значення
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        excludeFromExtremes(previous);
+        includeInExtremes(value);
+        if (sorted) {
+            sorted = (index == 0 || elements[index - 1] <= value) && (index == size - 1 || value <= elements[index + 1]);
+        }
+        return previous;
+    }
+
+    /**
+     * Додає значення в кінець списку.
+     *
+     * @param value Значення
+     */
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        if (sorted && size > 0 && elements[size - 1] > value) {
+            sorted = false;
+        }
+        includeInExtremes(value);
+        elements[size++] = value;
+    }
+
+    /**
+     * Вставляє значення за індексом, зсуваючи наступні елементи праворуч.
+     *
+     * @param index Індекс вставки (0..size)
+     * @param value Значення
+     */
+    public void insert(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Індекс " + index + " поза межами [0, " + size + "]");
+        }
+        ensureCapacity(size + 1);
+        if (sorted) {
+            sorted = (index == 0 || elements[index - 1] <= value) && (index == size || value <= elements[index]);
+        }
+        includeInExtremes(value);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Видаляє значення за індексом, зсуваючи наступні елементи ліворуч.
+     *
+     * @param index Індекс
+     * @return Видалене значення
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        excludeFromExtremes(removed);
+        return removed;
+    }
+
+    /**
+     * Видаляє перше входження значення.
+     *
+     * @param value Значення
+     * @return true, якщо значення було видалено
+     */
+    public boolean removeValue(int value) {
+        int index = find(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    public void clear() {
+        size = 0;
+        sorted = true;
+        extremesValid = false;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Лінійний пошук першого входження значення.
+     *
+     * @param value Значення
+     * @return Індекс або -1
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return find(value) >= 0;
+    }
+
+    /**
+     * Знаходить позицію значення: двійковим пошуком у впорядкованому списку, лінійним — інакше.
+     *
+     * @param value Значення
+     * @return Індекс або від'ємне значення, якщо значення відсутнє
+     */
+    public int find(int value) {
+        return sorted ? binarySearch(value) : indexOf(value);
+    }
+
+    /**
+     * Упорядковує список за зростанням (dual-pivot quicksort для int), якщо він ще не впорядкований.
+     */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(elements, 0, size);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Двійковий пошук у впорядкованому списку.
+     *
+     * @param value Значення
+     * @return Індекс або (-(точка вставки) - 1), як у Arrays.binarySearch
+     * @throws IllegalStateException якщо список не впорядкований
+     */
+    public int binarySearch(int value) {
+        if (!sorted) {
+            throw new IllegalStateException("Двійковий пошук можливий лише у впорядкованому IntVector");
+        }
+        return Arrays.binarySearch(elements, 0, size, value);
+    }
+
+    /**
+     * Повертає мінімальне значення списку: O(1) для впорядкованих даних або з кешу.
+     *
+     * @return Мінімум
+     * @throws IllegalStateException якщо список порожній
+     */
+    public int min() {
+        requireNotEmpty();
+        if (sorted) {
+            return elements[0];
+        }
+        ensureExtremes();
+        return cachedMin;
+    }
+
+    /**
+     * Повертає максимальне значення списку: O(1) для впорядкованих даних або з кешу.
+     *
+     * @return Максимум
+     * @throws IllegalStateException якщо список порожній
+     */
+    public int max() {
+        requireNotEmpty();
+        if (sorted) {
+            return elements[size - 1];
+        }
+        ensureExtremes();
+        return cachedMax;
+    }
+
+    /**
+     * Копіює значення у новий масив точного розміру.
+     *
+     * @return Масив int
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Гарантує місткість не менше заданої, збільшуючи масив у півтора раза.
+     *
+     * @param minCapacity Потрібна місткість
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            if (minCapacity < 0 || minCapacity > MAX_CAPACITY) {
+                throw new OutOfMemoryError("Місткість IntVector перевищує " + MAX_CAPACITY);
+            }
+            long grown = Math.max(DEFAULT_CAPACITY, elements.length + ((long) elements.length >> 1));
+            elements = Arrays.copyOf(elements, (int) Math.min(MAX_CAPACITY, Math.max(grown, minCapacity)));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private boolean checkSorted() {
+        for (int i = 1; i < size; i++) {
+            if (elements[i - 1] > elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureExtremes() {
+        if (extremesValid) {
+            return;
+        }
+        int minValue = elements[0];
+        int maxValue = elements[0];
+        for (int i = 1; i < size; i++) {
+            if (elements[i] < minValue) {
+                minValue = elements[i];
+            }
+            if (elements[i] > maxValue) {
+                maxValue = elements[i];
+            }
+        }
+        cachedMin = minValue;
+        cachedMax = maxValue;
+        extremesValid = true;
+    }
+
+    private void includeInExtremes(int value) {
+        if (extremesValid) {
+            cachedMin = Math.min(cachedMin, value);
+            cachedMax = Math.max(cachedMax, value);
+        }
+    }
+
+    private void excludeFromExtremes(int value) {
+        if (extremesValid && (value == cachedMin || value == cachedMax)) {
+            extremesValid = false;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Індекс " + index + " поза межами [0, " + size + ")");
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("IntVector порожній");
+        }
+    }
+}
@@ -0,0 +1,164 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Клас LatencyHistogram — гістограма затримок у стилі HDR без блокувань.
+ *
+ * <p>Значення (наносекунди) розкладаються у логарифмічно-лінійні кошики: до
+ * {@value #SUB_BUCKET_COUNT} кожне значення має власний кошик, далі кожна степінь двійки
+ * ділиться на {@value #HALF_SUB_BUCKET_COUNT} рівних частин. Відносна похибка
+ * перцентилів не перевищує 1/{@value #HALF_SUB_BUCKET_COUNT} (~1,6%) на всьому
+ * діапазоні long, а вся гістограма — це один масив лічильників фіксованого розміру.</p>
+ *
+ * <p>{@link #record(long)} не виділяє пам'ять і не бере блокувань: лише атомарні
+ * інкременти та CAS максимуму. Читання (перцентилі, середнє) узгоджене слабко —
+ * паралельний запис може бути врахований у лічильнику, але ще не в сумі.</p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    // зсуви 1..(63 - SUB_BUCKET_BITS + 1) покривають усі додатні long
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Записує одне значення (від'ємні вважаються нулем).
+     *
+     * @param value Затримка в наносекундах
+     */
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.incrementAndGet(indexOf(clamped));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(clamped);
+        updateMax(clamped);
+        updateMin(clamped);
+    }
+
+    /**
+     * Додає всі записи іншої гістограми (наприклад, зібраної окремо за один прохід).
+     *
+     * @param other Гістограма, записи якої додаються
+     */
+    public void add(LatencyHistogram other) {
+        long otherCount = other.totalCount.get();
+        if (otherCount == 0) {
+            return;
+        }
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            long count = other.counts.get(index);
+            if (count != 0) {
+                counts.addAndGet(index, count);
+            }
+        }
+        totalCount.addAndGet(otherCount);
+        totalSum.addAndGet(other.totalSum.get());
+        updateMax(other.maxValue.get());
+        updateMin(other.minValue.get());
+    }
+
+    /**
+     * Записує час, що минув від заданого моменту {@link System#nanoTime()}.
+     *
+     * @param startTime Початковий час у наносекундах
+     */
+    public void recordSince(long startTime) {
+        record(System.nanoTime() - startTime);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMin() {
+        return totalCount.get() == 0 ? 0 : minValue.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Повертає значення заданого перцентиля (верхню межу кошика, не більшу за максимум).
+     *
+     * @param percentile Перцентиль від 0 до 100
+     * @return Затримка в наносекундах або 0, якщо записів немає
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Перцентиль має бути в межах 0..100: " + percentile);
+        }
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += counts.get(index);
+            if (seen >= target) {
+                return Math.min(highestValueOf(index), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Обнуляє гістограму (паралельні записи під час скидання можуть частково зберегтися).
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            counts.set(index, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        minValue.set(Long.MAX_VALUE);
+        maxValue.set(0);
+    }
+
+    private void updateMax(long value) {
+        long current;
+        while (value > (current = maxValue.get()) && !maxValue.compareAndSet(current, value)) {
+            // повтор CAS: інший потік записав більше значення
+        }
+    }
+
+    private void updateMin(long value) {
+        long current;
+        while (value < (current = minValue.get()) && !minValue.compareAndSet(current, value)) {
+            // повтор CAS: інший потік записав менше значення
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // зсув, після якого значення потрапляє в [HALF_SUB_BUCKET_COUNT, SUB_BUCKET_COUNT)
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (subBucket - HALF_SUB_BUCKET_COUNT);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        long highest = ((subBucket + 1) << shift) - 1;
+        // верхній кошик останнього зсуву виходить за межі long
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+/**
+ * Клас LongIntHashMap — хеш-таблиця long → int з відкритою адресацією та лінійним зондуванням.
+ *
+ * <p>Ключі та значення лежать у двох паралельних примітивних масивах, тож запис
+ * займає 12 байтів таблиці замість вузла HashMap з упакованими Long та Integer.
+ * Ключ 0 позначає порожню комірку, тому його значення зберігається окремо.
+ * Видалення виконується зі зсувом наступних елементів кластера.</p>
+ */
+public class LongIntHashMap {
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final int missingValue;
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private boolean containsZeroKey;
+    private int zeroKeyValue;
+
+    /**
+     * Конструктор, який створює таблицю під очікувану кількість ключів.
+     *
+     * @param expectedSize Очікувана кількість ключів
+     * @param missingValue Значення, яке повертається для відсутніх ключів
+     */
+    public LongIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * Повертає значення ключа.
+     *
+     * @param key Ключ
+     * @return Значення або {@link #getMissingValue()}, якщо ключ відсутній
+     */
+    public int get(long key) {
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : missingValue;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return containsZeroKey;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Записує значення ключа.
+     *
+     * @param key Ключ
+     * @param value Значення
+     * @return Попереднє значення або {@link #getMissingValue()}
+     * @throws IllegalStateException якщо таблиця максимальної місткості заповнена
+     */
+    public int put(long key, int value) {
+        if (key == 0) {
+            int previous = containsZeroKey ? zeroKeyValue : missingValue;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            zeroKeyValue = value;
+            return previous;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != 0) {
+            if (current == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        // одна комірка завжди лишається порожньою, інакше зондування відсутнього ключа не зупиниться
+        if (keys.length == MAX_CAPACITY && size - (containsZeroKey ? 1 : 0) == mask) {
+            throw new IllegalStateException("Таблиця заповнена: досягнуто максимальної місткості " + MAX_CAPACITY);
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeThreshold && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * Видаляє ключ.
+     *
+     * @param key Ключ
+     * @return Попереднє значення або {@link #getMissingValue()}
+     */
+    public int remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return missingValue;
+            }
+            containsZeroKey = false;
+            size--;
+            return zeroKeyValue;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != key) {
+            if (current == 0) {
+                return missingValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        int previous = values[slot];
+        size--;
+        shiftClusterBack(slot);
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        containsZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * Оцінює обсяг пам'яті, зайнятий масивами таблиці.
+     *
+     * @return Кількість байтів
+     */
+    public long footprintBytes() {
+        return (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private void shiftClusterBack(int freeSlot) {
+        int slot = freeSlot;
+        while (true) {
+            slot = (slot + 1) & mask;
+            long current = keys[slot];
+            if (current == 0) {
+                keys[freeSlot] = 0;
+                return;
+            }
+            int home = mix(current) & mask;
+            boolean movable = freeSlot <= slot ? (home <= freeSlot || home > slot) : (home <= freeSlot && home > slot);
+            if (movable) {
+                keys[freeSlot] = current;
+                values[freeSlot] = values[slot];
+                freeSlot = slot;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Перемішує біти ключа (множення на золотий перетин і згортання старшої половини).
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
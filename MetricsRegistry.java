@@ -0,0 +1,182 @@
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Клас MetricsRegistry — реєстр іменованих метрик: таймерів, лічильників і показників.
+ *
+ * <ul>
+ *   <li>таймер — {@link LatencyHistogram}, звіт містить кількість, середнє, p50/p90/p99 і максимум;</li>
+ *   <li>лічильник — {@link LongAdder}, який не створює конкуренції між потоками;</li>
+ *   <li>показник (gauge) — функція, що зчитується лише під час звіту.</li>
+ * </ul>
+ *
+ * <p>Метрика створюється при першому зверненні до імені й далі повертається з
+ * ConcurrentHashMap без блокувань, тож запис на «гарячому» шляху не виділяє пам'яті
+ * і не звертається до консолі. Результати виводяться наприкінці запуску таблицею
+ * ({@link #summaryTable()}) або JSON ({@link #toJson()}), а також періодично
+ * ({@link #startReporter(long, PrintStream, boolean)}).</p>
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99};
+
+    private final Map<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Спільний реєстр процесу (його використовує {@link PerformanceTracker}).
+     *
+     * @return Реєстр за замовчуванням
+     */
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Повертає таймер з іменем, створюючи його при першому зверненні.
+     *
+     * @param name Назва операції
+     * @return Гістограма затримок
+     */
+    public LatencyHistogram timer(String name) {
+        LatencyHistogram histogram = timers.get(name);
+        return histogram != null ? histogram : timers.computeIfAbsent(name, ignored -> new LatencyHistogram());
+    }
+
+    /**
+     * Повертає лічильник з іменем, створюючи його при першому зверненні.
+     *
+     * @param name Назва лічильника
+     * @return Лічильник
+     */
+    public LongAdder counter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, ignored -> new LongAdder());
+    }
+
+    /**
+     * Реєструє (або замінює) показник, який обчислюється під час звіту.
+     *
+     * @param name Назва показника
+     * @param supplier Джерело значення
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Обнуляє таймери й лічильники; показники залишаються зареєстрованими.
+     */
+    public void reset() {
+        timers.values().forEach(LatencyHistogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Формує текстову таблицю з усіма метриками, впорядкованими за назвою.
+     *
+     * @return Таблиця
+     */
+    public String summaryTable() {
+        StringBuilder table = new StringBuilder();
+        Map<String, LatencyHistogram> sortedTimers = new TreeMap<>(timers);
+        if (!sortedTimers.isEmpty()) {
+            table.append(String.format(Locale.ROOT, "%-60s %8s %12s %12s %12s %12s %12s%n",
+                "Таймер (нс)", "к-сть", "середнє", "p50", "p90", "p99", "макс"));
+            for (Map.Entry<String, LatencyHistogram> entry : sortedTimers.entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                table.append(String.format(Locale.ROOT, "%-60s %8d %12.0f %12d %12d %12d %12d%n",
+                    entry.getKey(), histogram.getCount(), histogram.getMean(),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[0]),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[1]),
+                    histogram.getValueAtPercentile(REPORTED_PERCENTILES[2]),
+                    histogram.getMax()));
+            }
+        }
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            table.append(String.format(Locale.ROOT, "Лічильник %-50s %d%n", entry.getKey(), entry.getValue().sum()));
+        }
+        for (Map.Entry<String, LongSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            table.append(String.format(Locale.ROOT, "Показник  %-50s %d%n", entry.getKey(), entry.getValue().getAsLong()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Формує JSON-об'єкт з усіма метриками.
+     *
+     * @return Рядок JSON
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"timers\":{");
+        String separator = "";
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(timers).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            json.append(separator).append(quote(entry.getKey()))
+                .append(":{\"count\":").append(histogram.getCount())
+                .append(",\"min\":").append(histogram.getMin())
+                .append(",\"mean\":").append(String.format(Locale.ROOT, "%.1f", histogram.getMean()));
+            for (double percentile : REPORTED_PERCENTILES) {
+                json.append(",\"p").append((int) percentile).append("\":").append(histogram.getValueAtPercentile(percentile));
+            }
+            json.append(",\"max\":").append(histogram.getMax()).append('}');
+            separator = ",";
+        }
+        json.append("},\"counters\":{");
+        separator = "";
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            json.append(separator).append(quote(entry.getKey())).append(':').append(entry.getValue().sum());
+            separator = ",";
+        }
+        json.append("},\"gauges\":{");
+        separator = "";
+        for (Map.Entry<String, LongSupplier> entry : new TreeMap<>(gauges).entrySet()) {
+            json.append(separator).append(quote(entry.getKey())).append(':').append(entry.getValue().getAsLong());
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    /**
+     * Запускає фоновий потік, який періодично виводить звіт.
+     *
+     * @param periodMillis Період у мілісекундах
+     * @param out Потік виведення
+     * @param json true — JSON, false — таблиця
+     * @return Планувальник; його {@code shutdown()} зупиняє звіти
+     */
+    public ScheduledExecutorService startReporter(long periodMillis, PrintStream out, boolean json) {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reporter.scheduleAtFixedRate(() -> out.println(json ? toJson() : summaryTable()),
+            periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        return reporter;
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                quoted.append('\\').append(c);
+            } else if (c < 0x20) {
+                quoted.append(String.format("\\u%04x", (int) c));
+            } else {
+                quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,302 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Клас OffHeapDuckRegistry — хеш-таблиця «качка → власник» поза купою JVM.
+ *
+ * <p>Записи фіксованої ширини ({@value #RECORD_SIZE} байтів) лежать у прямих буферах
+ * {@link ByteBuffer#allocateDirect(int)}: ключ качки long у форматі
+ * {@link CompactDuckRegistry#packKey(int, int)} і номер власника у словнику плюс один
+ * (0 позначає порожню комірку). Таблиця ділиться на сегменти, бо один буфер
+ * обмежений 2 ГБ. На купі залишаються лише словники кличок і власників, тож
+ * збирач сміття не переглядає записи, а обсяг купи не зростає разом із таблицею.</p>
+ *
+ * <p>Адресація відкрита з лінійним зондуванням, видалення — зі зсувом кластера.
+ * Пошук за власником переглядає таблицю послідовно, без зворотного індексу на купі.</p>
+ */
+public class OffHeapDuckRegistry {
+    static final int RECORD_SIZE = 12;
+    private static final int OWNER_OFFSET = 8;
+    private static final int SEGMENT_SHIFT = 24;
+    private static final int RECORDS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final StringDictionary nicknames = new StringDictionary();
+    private final StringDictionary owners = new StringDictionary();
+    private ByteBuffer[] segments;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+
+    /**
+     * Конструктор, який виділяє таблицю поза купою під очікувану кількість качок.
+     *
+     * @param expectedSize Очікувана кількість качок
+     */
+    public OffHeapDuckRegistry(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) LOAD_FACTOR) + 1;
+        int capacity = MIN_CAPACITY;
+        while (capacity < needed && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Конструктор без таблиці: її виділяє {@link #withCapacity(int)}, щоб не створювати зайвий буфер.
+     */
+    private OffHeapDuckRegistry() {
+    }
+
+    /**
+     * Створює порожній реєстр із точно заданою місткістю таблиці (для відновлення зі знімка).
+     *
+     * @param capacity Місткість, степінь двійки
+     * @return Новий реєстр
+     */
+    static OffHeapDuckRegistry withCapacity(int capacity) {
+        if (Integer.bitCount(capacity) != 1 || capacity < MIN_CAPACITY || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Місткість має бути степенем двійки в межах " + MIN_CAPACITY + ".." + MAX_CAPACITY + ": " + capacity);
+        }
+        OffHeapDuckRegistry registry = new OffHeapDuckRegistry();
+        registry.allocate(capacity);
+        return registry;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    StringDictionary nicknames() {
+        return nicknames;
+    }
+
+    StringDictionary owners() {
+        return owners;
+    }
+
+    /**
+     * Записує готовий запис у задану комірку без хешування (таблиця знімка має ту саму розкладку).
+     */
+    void restoreRecord(int slot, long key, int ownerSlot) {
+        writeRecord(slot, key, ownerSlot);
+        size++;
+    }
+
+    /**
+     * Обсяг пам'яті поза купою, зайнятий таблицею.
+     *
+     * @return Кількість байтів
+     */
+    public long offHeapBytes() {
+        return (long) (mask + 1) * RECORD_SIZE;
+    }
+
+    /**
+     * Реєструє качку за власником.
+     *
+     * @param duck Качка
+     * @param owner Власник
+     * @return Попередній власник або null
+     * @throws IllegalStateException якщо таблиця максимальної місткості заповнена
+     */
+    public String put(BasicDataOperationUsingMap.Duck duck, String owner) {
+        long key = CompactDuckRegistry.packKey(nicknames.intern(duck.getNickname()), duck.getChicks());
+        int ownerSlot = owners.intern(owner) + 1;
+        int slot = LongIntHashMap.mix(key) & mask;
+        int current;
+        while ((current = ownerSlotAt(slot)) != 0) {
+            if (keyAt(slot) == key) {
+                setOwnerSlot(slot, ownerSlot);
+                return owners.valueOf(current - 1);
+            }
+            slot = (slot + 1) & mask;
+        }
+        // одна комірка завжди лишається порожньою, інакше зондування відсутньої качки не зупиниться
+        if (mask + 1 == MAX_CAPACITY && size == mask) {
+            throw new IllegalStateException("Реєстр заповнений: досягнуто максимальної місткості " + MAX_CAPACITY);
+        }
+        writeRecord(slot, key, ownerSlot);
+        if (++size > resizeThreshold && mask + 1 < MAX_CAPACITY) {
+            rehash((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Повертає власника качки.
+     *
+     * @param duck Качка
+     * @return Власник або null
+     */
+    public String get(BasicDataOperationUsingMap.Duck duck) {
+        int slot = find(duck);
+        return slot < 0 ? null : owners.valueOf(ownerSlotAt(slot) - 1);
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Duck duck) {
+        return find(duck) >= 0;
+    }
+
+    /**
+     * Видаляє качку з таблиці.
+     *
+     * @param duck Качка
+     * @return Попередній власник або null
+     */
+    public String remove(BasicDataOperationUsingMap.Duck duck) {
+        int slot = find(duck);
+        if (slot < 0) {
+            return null;
+        }
+        String previous = owners.valueOf(ownerSlotAt(slot) - 1);
+        removeAt(slot);
+        return previous;
+    }
+
+    /**
+     * Знаходить усіх качок власника послідовним переглядом таблиці.
+     *
+     * @param owner Власник
+     * @return Список качок (порожній, якщо власника немає)
+     */
+    public List<BasicDataOperationUsingMap.Duck> ducksOf(String owner) {
+        List<BasicDataOperationUsingMap.Duck> ducks = new ArrayList<>();
+        for (long key : keysOf(owner)) {
+            ducks.add(new BasicDataOperationUsingMap.Duck(nicknames.valueOf(CompactDuckRegistry.nicknameIdOf(key)),
+                CompactDuckRegistry.chicksOf(key)));
+        }
+        return ducks;
+    }
+
+    /**
+     * Видаляє всіх качок власника.
+     *
+     * @param owner Власник
+     * @return Кількість видалених записів
+     */
+    public int removeByOwner(String owner) {
+        long[] keys = keysOf(owner);
+        for (long key : keys) {
+            removeAt(findKey(key));
+        }
+        return keys.length;
+    }
+
+    private long[] keysOf(String owner) {
+        int ownerId = owners.idOf(owner);
+        if (ownerId < 0) {
+            return new long[0];
+        }
+        long[] keys = new long[16];
+        int count = 0;
+        for (int slot = 0; slot <= mask; slot++) {
+            if (ownerSlotAt(slot) == ownerId + 1) {
+                if (count == keys.length) {
+                    keys = Arrays.copyOf(keys, count * 2);
+                }
+                keys[count++] = keyAt(slot);
+            }
+        }
+        return Arrays.copyOf(keys, count);
+    }
+
+    private int find(BasicDataOperationUsingMap.Duck duck) {
+        int nicknameId = nicknames.idOf(duck.getNickname());
+        return nicknameId < 0 ? -1 : findKey(CompactDuckRegistry.packKey(nicknameId, duck.getChicks()));
+    }
+
+    private int findKey(long key) {
+        int slot = LongIntHashMap.mix(key) & mask;
+        while (ownerSlotAt(slot) != 0) {
+            if (keyAt(slot) == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeAt(int freeSlot) {
+        size--;
+        int slot = freeSlot;
+        while (true) {
+            slot = (slot + 1) & mask;
+            int ownerSlot = ownerSlotAt(slot);
+            if (ownerSlot == 0) {
+                setOwnerSlot(freeSlot, 0);
+                return;
+            }
+            long key = keyAt(slot);
+            int home = LongIntHashMap.mix(key) & mask;
+            boolean movable = freeSlot <= slot ? (home <= freeSlot || home > slot) : (home <= freeSlot && home > slot);
+            if (movable) {
+                writeRecord(freeSlot, key, ownerSlot);
+                freeSlot = slot;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        ByteBuffer[] oldSegments = segments;
+        int oldCapacity = mask + 1;
+        allocate(newCapacity);
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            ByteBuffer segment = oldSegments[oldSlot >>> SEGMENT_SHIFT];
+            int offset = (oldSlot & (RECORDS_PER_SEGMENT - 1)) * RECORD_SIZE;
+            int ownerSlot = segment.getInt(offset + OWNER_OFFSET);
+            if (ownerSlot != 0) {
+                long key = segment.getLong(offset);
+                int slot = LongIntHashMap.mix(key) & mask;
+                while (ownerSlotAt(slot) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                writeRecord(slot, key, ownerSlot);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        int segmentCount = Math.max(1, capacity >>> SEGMENT_SHIFT);
+        int recordsPerSegment = Math.min(capacity, RECORDS_PER_SEGMENT);
+        segments = new ByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // прямий буфер заповнений нулями, тобто всі комірки порожні
+            segments[i] = ByteBuffer.allocateDirect(recordsPerSegment * RECORD_SIZE).order(ByteOrder.nativeOrder());
+        }
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    long keyAt(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getLong(offsetOf(slot));
+    }
+
+    int ownerSlotAt(int slot) {
+        return segments[slot >>> SEGMENT_SHIFT].getInt(offsetOf(slot) + OWNER_OFFSET);
+    }
+
+    private void setOwnerSlot(int slot, int ownerSlot) {
+        segments[slot >>> SEGMENT_SHIFT].putInt(offsetOf(slot) + OWNER_OFFSET, ownerSlot);
+    }
+
+    private void writeRecord(int slot, long key, int ownerSlot) {
+        ByteBuffer segment = segments[slot >>> SEGMENT_SHIFT];
+        int offset = offsetOf(slot);
+        segment.putLong(offset, key);
+        segment.putInt(offset + OWNER_OFFSET, ownerSlot);
+    }
+
+    private static int offsetOf(int slot) {
+        return (slot & (RECORDS_PER_SEGMENT - 1)) * RECORD_SIZE;
+    }
+}
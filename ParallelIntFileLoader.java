@@ -0,0 +1,159 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Клас ParallelIntFileLoader завантажує великий текстовий файл цілих чисел паралельно.
+ *
+ * <p>Файл ділиться на діапазони байтів, межі яких вирівнюються на початок рядка.
+ * Кожен діапазон відображається в пам'ять і розбирається окремим завданням
+ * ForkJoinPool у власний примітивний буфер {@link IntTextParser}; результати
+ * об'єднуються у вихідному порядку. BOM пропускається лише в першому діапазоні.</p>
+ */
+final class ParallelIntFileLoader {
+    // файли менші за цей поріг швидше розібрати в одному потоці
+    static final long PARALLEL_THRESHOLD_BYTES = 4L << 20;
+    // обмеження розміру одного діапазону: FileChannel.map приймає не більше 2 ГБ
+    private static final long MAX_CHUNK_BYTES = 256L << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int BOUNDARY_PROBE_SIZE = 4096;
+
+    private ParallelIntFileLoader() {
+    }
+
+    /**
+     * Завантажує файл паралельно у заданому пулі потоків.
+     *
+     * @param filePath Шлях до файлу з даними
+     * @param pool Пул ForkJoinPool для завдань розбору
+     * @return Масив значень int у порядку файлу
+     * @throws IOException якщо файл неможливо прочитати
+     */
+    static int[] load(String filePath, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            int chunkCount = (int) Math.max((long) pool.getParallelism() * CHUNKS_PER_THREAD,
+                    (fileSize + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+            long[] boundaries = alignBoundaries(channel, fileSize, chunkCount);
+
+            List<ChunkTask> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < boundaries.length; i++) {
+                if (boundaries[i] < boundaries[i + 1]) {
+                    tasks.add(new ChunkTask(channel, boundaries[i], boundaries[i + 1]));
+                }
+            }
+
+            List<int[]> parts = pool.invoke(new JoinTask(tasks));
+            int totalCount = 0;
+            for (int[] part : parts) {
+                totalCount += part.length;
+            }
+            int[] resultArray = new int[totalCount];
+            int offset = 0;
+            for (int[] part : parts) {
+                System.arraycopy(part, 0, resultArray, offset, part.length);
+                offset += part.length;
+            }
+            return resultArray;
+        }
+    }
+
+    /**
+     * Обчислює межі діапазонів: кожна межа (крім 0 і кінця файлу) стоїть одразу після '\n'.
+     */
+    private static long[] alignBoundaries(FileChannel channel, long fileSize, int chunkCount) throws IOException {
+        long[] boundaries = new long[chunkCount + 1];
+        boundaries[chunkCount] = fileSize;
+        ByteBuffer probe = ByteBuffer.allocate(BOUNDARY_PROBE_SIZE);
+
+        for (int i = 1; i < chunkCount; i++) {
+            long position = Math.max(fileSize / chunkCount * i, boundaries[i - 1]);
+            boundaries[i] = fileSize;
+            search:
+            while (position < fileSize) {
+                probe.clear();
+                int bytesRead = channel.read(probe, position);
+                if (bytesRead <= 0) {
+                    break;
+                }
+                for (int j = 0; j < bytesRead; j++) {
+                    if (probe.get(j) == '\n') {
+                        boundaries[i] = position + j + 1;
+                        break search;
+                    }
+                }
+                position += bytesRead;
+            }
+        }
+        return boundaries;
+    }
+
+    /**
+     * Завдання, яке розбирає один діапазон файлу у власний буфер.
+     */
+    private static final class ChunkTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long start;
+        private final long end;
+
+        ChunkTask(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected int[] compute() {
+            try {
+                MappedByteBuffer mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                IntTextParser parser = new IntTextParser((int) ((end - start) / 11));
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+
+                boolean firstBlock = start == 0;
+                while (mappedBuffer.hasRemaining()) {
+                    int length = Math.min(buffer.length, mappedBuffer.remaining());
+                    mappedBuffer.get(buffer, 0, length);
+                    int offset = firstBlock ? DataFileHandler.skipByteOrderMark(buffer, length) : 0;
+                    firstBlock = false;
+                    parser.parse(buffer, offset, length);
+                }
+                return parser.finish();
+            } catch (IOException ioException) {
+                throw new IllegalStateException("Помилка читання діапазону " + start + ".." + end, ioException);
+            }
+        }
+    }
+
+    /**
+     * Запускає всі завдання розбору і збирає результати в порядку діапазонів.
+     */
+    private static final class JoinTask extends RecursiveTask<List<int[]>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<ChunkTask> tasks;
+
+        JoinTask(List<ChunkTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected List<int[]> compute() {
+            invokeAll(tasks);
+            List<int[]> parts = new ArrayList<>(tasks.size());
+            for (ChunkTask task : tasks) {
+                parts.add(task.join());
+            }
+            return parts;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Клас PerThreadOutput — потік виведення, що збирає байти кожного потоку в окремий буфер.
+ *
+ * <p>Поки потік між {@link #beginCapture()} і {@link #endCapture()}, усе, що він
+ * виводить через обгорнутий {@code System.out}, потрапляє в його власний буфер; інші
+ * потоки пишуть у консоль напряму. Так паралельні аналізи не перемішують рядки, а
+ * їх звіти виводяться цілими блоками після завершення.</p>
+ */
+final class PerThreadOutput extends OutputStream {
+    private final PrintStream console;
+    private final ThreadLocal<ByteArrayOutputStream> buffers = new ThreadLocal<>();
+
+    /**
+     * Конструктор, який обгортає консольний потік.
+     *
+     * @param console Потік, куди йде виведення потоків без буфера
+     */
+    PerThreadOutput(PrintStream console) {
+        this.console = console;
+    }
+
+    /**
+     * Починає збирати виведення поточного потоку.
+     */
+    void beginCapture() {
+        buffers.set(new ByteArrayOutputStream());
+    }
+
+    /**
+     * Завершує збирання і повертає зібрані байти поточного потоку.
+     *
+     * @return Виведення потоку (порожнє, якщо збирання не починалося)
+     */
+    byte[] endCapture() {
+        ByteArrayOutputStream buffer = buffers.get();
+        buffers.remove();
+        return buffer == null ? new byte[0] : buffer.toByteArray();
+    }
+
+    @Override
+    public void write(int b) {
+        ByteArrayOutputStream buffer = buffers.get();
+        if (buffer != null) {
+            buffer.write(b);
+        } else {
+            console.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ByteArrayOutputStream buffer = buffers.get();
+        if (buffer != null) {
+            buffer.write(bytes, offset, length);
+        } else {
+            console.write(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (buffers.get() == null) {
+            console.flush();
+        }
+    }
+}
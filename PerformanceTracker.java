@@ -1,7 +1,154 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ *
+ * <p>За замовчуванням кожен вимір одразу виводиться в консоль. З властивістю
+ * {@code -Dperf.output=metrics} виміри лише записуються в гістограми
+ * {@link MetricsRegistry#getDefault()} за назвою операції (без побудови рядка і
+ * синхронного виведення), а наприкінці запуску {@link #printMetricsReport()} показує
+ * p50/p90/p99/макс таблицею або JSON ({@code -Dperf.report=json}). Властивість
+ * {@code -Dperf.reportPeriodMillis=N} додатково вмикає періодичний звіт.</p>
+ *
+ * <p>Якщо операція почата через {@link #startOperation()}, разом із часом
+ * звітуються байти, виділені поточним потоком ({@code com.sun.management.ThreadMXBean}),
+ * а також кількість і тривалість збирань сміття за час операції (за всіма збирачами
+ * процесу). З {@code -Dperf.jfr=true} кожна така операція ще й записується подією
+ * JFR {@value #JFR_EVENT_NAME}, яку видно в JDK Mission Control поруч з подіями GC.</p>
  */
 public class PerformanceTracker {
+    static final String JFR_EVENT_NAME = "training.DataOperation";
+    private static final boolean METRICS_OUTPUT = "metrics".equalsIgnoreCase(System.getProperty("perf.output", "").trim());
+    private static final boolean JSON_REPORT = "json".equalsIgnoreCase(System.getProperty("perf.report", "").trim());
+    private static final boolean JFR_EVENTS = Boolean.getBoolean("perf.jfr");
+    // незакриті операції потоку; межа захищає від викликів startOperation без пари
+    private static final int MAX_OPEN_OPERATIONS = 64;
+    private static final ThreadLocal<OpenOperations> OPEN_OPERATIONS = ThreadLocal.withInitial(OpenOperations::new);
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = allocationCountingThreadBean();
+    private static final List<GarbageCollectorMXBean> GC_BEANS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final Map<String, LongAdder> ALLOCATION_COUNTERS = new ConcurrentHashMap<>();
+    // збирання сміття за час операцій; датчики jvm.gc.* показують лише підсумок процесу
+    private static final Map<String, LongAdder> GC_COUNT_COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> GC_TIME_COUNTERS = new ConcurrentHashMap<>();
+
+    static {
+        if (METRICS_OUTPUT) {
+            Runtime runtime = Runtime.getRuntime();
+            MetricsRegistry.getDefault().gauge("jvm.heap.used", () -> runtime.totalMemory() - runtime.freeMemory());
+            MetricsRegistry.getDefault().gauge("jvm.gc.count", PerformanceTracker::gcCount);
+            MetricsRegistry.getDefault().gauge("jvm.gc.time.ms", PerformanceTracker::gcTimeMillis);
+            long periodMillis = Long.getLong("perf.reportPeriodMillis", 0);
+            if (periodMillis > 0) {
+                MetricsRegistry.getDefault().startReporter(periodMillis, System.out, JSON_REPORT);
+            }
+        }
+    }
+
+    /**
+     * Знімок лічильників потоку та збирачів сміття на початку операції.
+     */
+    private static final class OperationStart {
+        long startTime;
+        long allocatedBytes;
+        long gcCount;
+        long gcTimeMillis;
+        OperationEvent event;
+    }
+
+    /**
+     * Стек незакритих операцій потоку на кільцевому масиві багаторазових знімків.
+     *
+     * <p>Знімки створюються лише при першому заповненні комірки, тож відстежувана
+     * операція не виділяє пам'яті. При переповненні найстаріший знімок перезаписується.
+     * Знятий знімок дійсний до наступного {@link #push()} у тому самому потоці.</p>
+     */
+    private static final class OpenOperations {
+        private final OperationStart[] slots = new OperationStart[MAX_OPEN_OPERATIONS];
+        private int head;
+        private int depth;
+
+        OperationStart push() {
+            OperationStart slot = slots[head];
+            if (slot == null) {
+                slot = new OperationStart();
+                slots[head] = slot;
+            }
+            head = (head + 1) % MAX_OPEN_OPERATIONS;
+            depth = Math.min(depth + 1, MAX_OPEN_OPERATIONS);
+            return slot;
+        }
+
+        /**
+         * Знімає знімок з початковим часом разом із незакритими вкладеними.
+         *
+         * @return Знімок або null, якщо його немає в стеку
+         */
+        OperationStart pop(long startTime) {
+            for (int i = 0; i < depth; i++) {
+                int index = (head - 1 - i + MAX_OPEN_OPERATIONS) % MAX_OPEN_OPERATIONS;
+                if (slots[index].startTime == startTime) {
+                    head = index;
+                    depth -= i + 1;
+                    return slots[index];
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Подія JFR для однієї операції з даними.
+     */
+    @Name(JFR_EVENT_NAME)
+    @Label("Операція з даними")
+    @Category("Training")
+    static final class OperationEvent extends Event {
+        @Label("Операція")
+        String operation;
+
+        @Label("Виділено потоком")
+        @DataAmount
+        long allocatedBytes;
+
+        @Label("Збирань сміття")
+        long gcCount;
+
+        @Label("Час збирань сміття, мс")
+        long gcTimeMillis;
+    }
+
+    /**
+     * Починає відстежувану операцію: запам'ятовує виділену потоком пам'ять і стан збирачів.
+     *
+     * @return Початковий час у наносекундах (для {@link #displayOperationTime(long, String)})
+     */
+    public static long startOperation() {
+        OperationEvent event = null;
+        if (JFR_EVENTS) {
+            event = new OperationEvent();
+            event.begin();
+        }
+        OperationStart start = OPEN_OPERATIONS.get().push();
+        start.gcCount = gcCount();
+        start.gcTimeMillis = gcTimeMillis();
+        start.event = event;
+        // виділення і час зчитуються останніми, щоб підготовка знімка не входила у вимір
+        start.allocatedBytes = allocatedBytes();
+        start.startTime = System.nanoTime();
+        return start.startTime;
+    }
+
     /**
      * Відображає тривалість виконання операції в наносекундах.
      * 
@@ -11,6 +158,143 @@ public class PerformanceTracker {
     public static void displayOperationTime(long startTime, String operationName) {
         long finishTime = System.nanoTime();
         long executionTime = (finishTime - startTime);
-        System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
+        long allocatedBytes = allocatedBytes();
+        OperationStart start = finishOperation(startTime);
+        if (METRICS_OUTPUT) {
+            recordMetrics(operationName, executionTime, start, allocatedBytes);
+            return;
+        }
+        System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс" + resourceUsage(start, operationName, allocatedBytes) + " =========");
+    }
+
+    /**
+     * Відображає тривалість виконання операції разом з додатковою інформацією,
+     * наприклад обраним алгоритмом.
+     * 
+     * @param startTime Початковий час операції в наносекундах.
+     * @param operationName Назва операції.
+     * @param details Додаткові відомості про виконання.
+     */
+    public static void displayOperationTime(long startTime, String operationName, String details) {
+        long finishTime = System.nanoTime();
+        long executionTime = (finishTime - startTime);
+        long allocatedBytes = allocatedBytes();
+        OperationStart start = finishOperation(startTime);
+        if (METRICS_OUTPUT) {
+            // подробиці змінюються від виклику до виклику, тож таймер ведеться лише за назвою
+            recordMetrics(operationName, executionTime, start, allocatedBytes);
+            return;
+        }
+        System.out.println("\n========= Тривалість операції '" + operationName + "' [" + details + "]: " + executionTime + " нс" + resourceUsage(start, operationName, allocatedBytes) + " =========");
+    }
+
+    /**
+     * Знаходить знімок операції за початковим часом і знімає його (разом із незакритими вкладеними).
+     *
+     * @return Знімок або null, якщо операцію почато без {@link #startOperation()}
+     */
+    private static OperationStart finishOperation(long startTime) {
+        return OPEN_OPERATIONS.get().pop(startTime);
+    }
+
+    private static void recordMetrics(String operationName, long executionTime, OperationStart start, long allocatedBytes) {
+        MetricsRegistry.getDefault().timer(operationName).record(executionTime);
+        if (start != null) {
+            long allocated = allocatedBytes - start.allocatedBytes;
+            ALLOCATION_COUNTERS.computeIfAbsent(operationName,
+                name -> MetricsRegistry.getDefault().counter(name + " [виділено байт]")).add(allocated);
+            GC_COUNT_COUNTERS.computeIfAbsent(operationName,
+                name -> MetricsRegistry.getDefault().counter(name + " [збирань сміття]")).add(gcCount() - start.gcCount);
+            GC_TIME_COUNTERS.computeIfAbsent(operationName,
+                name -> MetricsRegistry.getDefault().counter(name + " [час збирань сміття, мс]")).add(gcTimeMillis() - start.gcTimeMillis);
+            commitEvent(start, operationName, allocated);
+        }
+    }
+
+    private static String resourceUsage(OperationStart start, String operationName, long allocatedBytes) {
+        if (start == null) {
+            return "";
+        }
+        long allocated = allocatedBytes - start.allocatedBytes;
+        long collections = gcCount() - start.gcCount;
+        long collectionMillis = gcTimeMillis() - start.gcTimeMillis;
+        commitEvent(start, operationName, allocated);
+        String usage = allocatedBytes >= 0 ? ", виділено " + allocated + " байт" : "";
+        return usage + ", збирань сміття " + collections + " (" + collectionMillis + " мс)";
+    }
+
+    private static void commitEvent(OperationStart start, String operationName, long allocated) {
+        OperationEvent event = start.event;
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operationName;
+            event.allocatedBytes = allocated;
+            event.gcCount = gcCount() - start.gcCount;
+            event.gcTimeMillis = gcTimeMillis() - start.gcTimeMillis;
+            event.commit();
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCountingThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+
+    /**
+     * Байти, виділені поточним потоком від його старту.
+     *
+     * @return Кількість байтів або -1, якщо JVM цього не підтримує
+     */
+    static long allocatedBytes() {
+        return THREAD_BEAN == null ? -1 : THREAD_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    static long gcCount() {
+        long count = 0;
+        // цикл за індексом не створює ітератора, тож не спотворює підрахунок виділень
+        for (int i = 0; i < GC_BEANS.size(); i++) {
+            count += Math.max(0, GC_BEANS.get(i).getCollectionCount());
+        }
+        return count;
+    }
+
+    static long gcTimeMillis() {
+        long time = 0;
+        for (int i = 0; i < GC_BEANS.size(); i++) {
+            time += Math.max(0, GC_BEANS.get(i).getCollectionTime());
+        }
+        return time;
+    }
+
+    /**
+     * Чи записуються виміри в реєстр метрик замість консолі.
+     *
+     * @return true для {@code -Dperf.output=metrics}
+     */
+    public static boolean isMetricsOutput() {
+        return METRICS_OUTPUT;
+    }
+
+    /**
+     * Виводить підсумковий звіт реєстру метрик (лише в режимі {@code perf.output=metrics}).
+     */
+    public static void printMetricsReport() {
+        if (!METRICS_OUTPUT) {
+            return;
+        }
+        System.out.println("\n========= Метрики продуктивності =========");
+        System.out.println(JSON_REPORT ? MetricsRegistry.getDefault().toJson() : MetricsRegistry.getDefault().summaryTable());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,189 @@
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+/**
+ * Клас SortedIntIndex — незмінний індекс для запитів за рангом і діапазоном над набором int.
+ *
+ * <p>Індекс будується один раз і тримає дві копії даних:</p>
+ * <ul>
+ *   <li>відсортований масив — для {@link #select(int)} і перцентилів за O(1);</li>
+ *   <li>той самий масив у порядку Ейтцингера (двійкове дерево пошуку в ширину,
+ *       корінь у комірці 1, діти вузла k — у 2k і 2k+1) разом із відповідністю
+ *       «вузол → позиція у відсортованому масиві» — для пошуку меж за O(log n).</li>
+ * </ul>
+ *
+ * <p>У порядку Ейтцингера перші рівні дерева лежать поруч на кількох кеш-лініях,
+ * а спуск не має непередбачуваних розгалужень, тож він помітно швидший за
+ * двійковий пошук на великих масивах. Усі запити лише читають, тому індекс
+ * можна використовувати з кількох потоків одночасно.</p>
+ */
+public final class SortedIntIndex {
+    private final int[] sortedValues;
+    private final int[] eytzinger;
+    private final int[] sortedPosition;
+
+    /**
+     * Конструктор, який будує індекс з масиву (масив не змінюється).
+     *
+     * @param values Значення у довільному порядку
+     */
+    public SortedIntIndex(int[] values) {
+        this.sortedValues = values.clone();
+        new IntSortEngine(IntSortEngine.Strategy.AUTO).sort(sortedValues);
+
+        int length = sortedValues.length;
+        this.eytzinger = new int[length + 1];
+        this.sortedPosition = new int[length + 1];
+        fillEytzinger(0, 1);
+    }
+
+    /**
+     * Розкладає відсортований масив у порядку Ейтцингера симетричним обходом дерева.
+     * Глибина рекурсії дорівнює висоті дерева, тобто не перевищує 32.
+     */
+    private int fillEytzinger(int nextSorted, int node) {
+        if (node < eytzinger.length) {
+            nextSorted = fillEytzinger(nextSorted, 2 * node);
+            eytzinger[node] = sortedValues[nextSorted];
+            sortedPosition[node] = nextSorted++;
+            nextSorted = fillEytzinger(nextSorted, 2 * node + 1);
+        }
+        return nextSorted;
+    }
+
+    public int size() {
+        return sortedValues.length;
+    }
+
+    /**
+     * Ранг значення: кількість елементів, строго менших за нього.
+     *
+     * @param value Значення
+     * @return Ранг у межах 0..size()
+     */
+    public int rank(int value) {
+        int node = 1;
+        while (node < eytzinger.length) {
+            node = 2 * node + (eytzinger[node] < value ? 1 : 0);
+        }
+        // повертаємося до останнього вузла, де спуск пішов ліворуч
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        return node == 0 ? sortedValues.length : sortedPosition[node];
+    }
+
+    /**
+     * Кількість елементів, не більших за значення.
+     *
+     * @param value Значення
+     * @return Кількість у межах 0..size()
+     */
+    public int rankInclusive(int value) {
+        return value == Integer.MAX_VALUE ? sortedValues.length : rank(value + 1);
+    }
+
+    /**
+     * Кількість елементів у замкненому діапазоні [from, to].
+     *
+     * @param from Нижня межа (включно)
+     * @param to Верхня межа (включно)
+     * @return Кількість елементів або 0, якщо from &gt; to
+     */
+    public int countInRange(int from, int to) {
+        if (from > to) {
+            return 0;
+        }
+        return rankInclusive(to) - rank(from);
+    }
+
+    /**
+     * Перевіряє наявність значення.
+     *
+     * @param value Значення
+     * @return true, якщо значення є в індексі
+     */
+    public boolean contains(int value) {
+        int position = rank(value);
+        return position < sortedValues.length && sortedValues[position] == value;
+    }
+
+    /**
+     * Повертає k-те за зростанням значення (з нуля).
+     *
+     * @param k Порядковий номер
+     * @return Значення
+     * @throws IndexOutOfBoundsException якщо k поза межами 0..size()-1
+     */
+    public int select(int k) {
+        if (k < 0 || k >= sortedValues.length) {
+            throw new IndexOutOfBoundsException("Номер " + k + " поза межами індексу розміром " + sortedValues.length);
+        }
+        return sortedValues[k];
+    }
+
+    /**
+     * Найбільше значення, строго менше за задане.
+     *
+     * @param value Значення
+     * @return Попередник або порожній результат
+     */
+    public OptionalInt predecessor(int value) {
+        int position = rank(value);
+        return position == 0 ? OptionalInt.empty() : OptionalInt.of(sortedValues[position - 1]);
+    }
+
+    /**
+     * Найменше значення, строго більше за задане.
+     *
+     * @param value Значення
+     * @return Наступник або порожній результат
+     */
+    public OptionalInt successor(int value) {
+        int position = rankInclusive(value);
+        return position == sortedValues.length ? OptionalInt.empty() : OptionalInt.of(sortedValues[position]);
+    }
+
+    /**
+     * Перцентиль за методом найближчого рангу.
+     *
+     * @param percent Відсоток у межах 0..100
+     * @return Значення, не менше за яке є щонайменше percent% елементів
+     * @throws IllegalArgumentException якщо відсоток поза межами 0..100
+     * @throws NoSuchElementException якщо індекс порожній
+     */
+    public int percentile(double percent) {
+        if (!(percent >= 0 && percent <= 100)) {
+            throw new IllegalArgumentException("Відсоток має бути в межах 0..100: " + percent);
+        }
+        if (sortedValues.length == 0) {
+            throw new NoSuchElementException("Індекс порожній");
+        }
+        int k = (int) Math.ceil(percent / 100 * sortedValues.length) - 1;
+        return sortedValues[Math.max(k, 0)];
+    }
+
+    /**
+     * Найменше значення.
+     *
+     * @return Мінімум
+     * @throws NoSuchElementException якщо індекс порожній
+     */
+    public int min() {
+        if (sortedValues.length == 0) {
+            throw new NoSuchElementException("Індекс порожній");
+        }
+        return sortedValues[0];
+    }
+
+    /**
+     * Найбільше значення.
+     *
+     * @return Максимум
+     * @throws NoSuchElementException якщо індекс порожній
+     */
+    public int max() {
+        if (sortedValues.length == 0) {
+            throw new NoSuchElementException("Індекс порожній");
+        }
+        return sortedValues[sortedValues.length - 1];
+    }
+}
@@ -0,0 +1,66 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Клас StringDictionary — словник рядків, що видає кожному різному рядку щільний номер.
+ *
+ * <p>Однакові клички чи імена власників зберігаються один раз, а записи реєстру
+ * посилаються на них номером int. Номери видаються послідовно з нуля і ніколи
+ * не перевикористовуються, тому їх можна пакувати у примітивні ключі.</p>
+ */
+final class StringDictionary {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<String, Integer> idsByValue = new HashMap<>();
+    private String[] values = new String[DEFAULT_CAPACITY];
+
+    /**
+     * Повертає номер рядка, додаючи рядок до словника за потреби.
+     *
+     * @param value Рядок (не null)
+     * @return Номер рядка
+     */
+    int intern(String value) {
+        Integer id = idsByValue.get(value);
+        if (id != null) {
+            return id;
+        }
+        int newId = idsByValue.size();
+        if (newId == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[newId] = value;
+        idsByValue.put(value, newId);
+        return newId;
+    }
+
+    /**
+     * Повертає номер рядка без додавання.
+     *
+     * @param value Рядок
+     * @return Номер або -1, якщо рядка немає у словнику
+     */
+    int idOf(String value) {
+        Integer id = idsByValue.get(value);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Повертає рядок за номером.
+     *
+     * @param id Номер
+     * @return Рядок
+     * @throws IndexOutOfBoundsException якщо номер не видавався
+     */
+    String valueOf(int id) {
+        if (id < 0 || id >= idsByValue.size()) {
+            throw new IndexOutOfBoundsException("Номер " + id + " відсутній у словнику");
+        }
+        return values[id];
+    }
+
+    int size() {
+        return idsByValue.size();
+    }
+}
@@ -0,0 +1,233 @@
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Клас TrackedList — обгортка над списком, яка відстежує впорядкованість і кешує мін/макс.
+ *
+ * <p>Усі зміни проходять через обгортку, тому вона знає, коли кеш стає недійсним:</p>
+ * <ul>
+ *   <li>для впорядкованого списку мін/макс — це перший і останній елементи, O(1);</li>
+ *   <li>для невпорядкованого мін/макс обчислюються одним проходом і кешуються до наступної зміни,
+ *       яка може їх зачепити;</li>
+ *   <li>пошук у впорядкованому списку — двійковий, у невпорядкованому — лінійний,
+ *       тож двійковий пошук ніколи не виконується над невпорядкованими даними.</li>
+ * </ul>
+ *
+ * @param <E> Тип елементів
+ */
+public class TrackedList<E extends Comparable<? super E>> {
+    private final List<E> delegate;
+    private boolean sorted;
+    private boolean extremesValid;
+    private E cachedMin;
+    private E cachedMax;
+
+    /**
+     * Конструктор, який обгортає наявний список і одним проходом визначає його стан.
+     *
+     * @param delegate Список, з яким далі працюють лише через обгортку
+     */
+    public TrackedList(List<E> delegate) {
+        this.delegate = delegate;
+        recomputeState();
+    }
+
+    public int size() {
+        return delegate.size();
+    }
+
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Додає елемент у кінець; впорядкованість і кеш оновлюються інкрементально.
+     *
+     * @param element Елемент
+     */
+    public void add(E element) {
+        if (sorted && !delegate.isEmpty() && delegate.get(delegate.size() - 1).compareTo(element) > 0) {
+            sorted = false;
+        }
+        delegate.add(element);
+        includeInExtremes(element);
+    }
+
+    /**
+     * Вставляє елемент за індексом.
+     *
+     * @param index Індекс
+     * @param element Елемент
+     */
+    public void add(int index, E element) {
+        if (sorted) {
+            boolean fitsLeft = index == 0 || delegate.get(index - 1).compareTo(element) <= 0;
+            boolean fitsRight = index == delegate.size() || element.compareTo(delegate.get(index)) <= 0;
+            sorted = fitsLeft && fitsRight;
+        }
+        delegate.add(index, element);
+        includeInExtremes(element);
+    }
+
+    /**
+     * Вставляє елемент у впорядкований список на його місце (двійковий пошук позиції).
+     *
+     * @param element Елемент
+     * @throws IllegalStateException якщо список не впорядкований
+     */
+    public void insertSorted(E element) {
+        if (!sorted) {
+            throw new IllegalStateException("Список не впорядкований");
+        }
+        int position = Collections.binarySearch(delegate, element);
+        delegate.add(position >= 0 ? position : -position - 1, element);
+        includeInExtremes(element);
+    }
+
+    /**
+     * Замінює елемент за індексом.
+     *
+     * @param index Індекс
+     * @param element Новий елемент
+     * @return Попередній елемент
+     */
+    public E set(int index, E element) {
+        E previous = delegate.set(index, element);
+        excludeFromExtremes(previous);
+        includeInExtremes(element);
+        if (sorted) {
+            sorted = (index == 0 || delegate.get(index - 1).compareTo(element) <= 0)
+                && (index == delegate.size() - 1 || element.compareTo(delegate.get(index + 1)) <= 0);
+        }
+        return previous;
+    }
+
+    /**
+     * Видаляє елемент за індексом; видалення не порушує впорядкованість.
+     *
+     * @param index Індекс
+     * @return Видалений елемент
+     */
+    public E remove(int index) {
+        E removed = delegate.remove(index);
+        excludeFromExtremes(removed);
+        return removed;
+    }
+
+    /**
+     * Упорядковує список, якщо він ще не впорядкований.
+     */
+    public void sort() {
+        if (!sorted) {
+            Collections.sort(delegate);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Знаходить позицію елемента: двійковим пошуком у впорядкованому списку, лінійним — інакше.
+     *
+     * @param element Елемент
+     * @return Індекс або від'ємне значення, якщо елемент відсутній
+     */
+    public int find(E element) {
+        if (sorted) {
+            return Collections.binarySearch(delegate, element);
+        }
+        return delegate.indexOf(element);
+    }
+
+    /**
+     * Повертає мінімальний елемент: O(1) для впорядкованого списку або з кешу.
+     *
+     * @return Мінімум
+     */
+    public E min() {
+        if (sorted) {
+            return delegate.get(0);
+        }
+        ensureExtremes();
+        return cachedMin;
+    }
+
+    /**
+     * Повертає максимальний елемент: O(1) для впорядкованого списку або з кешу.
+     *
+     * @return Максимум
+     */
+    public E max() {
+        if (sorted) {
+            return delegate.get(delegate.size() - 1);
+        }
+        ensureExtremes();
+        return cachedMax;
+    }
+
+    /**
+     * Повертає обгорнутий список лише для читання (зміни в обхід обгортки зламали б кеш).
+     *
+     * @return Список без можливості зміни
+     */
+    public List<E> view() {
+        return Collections.unmodifiableList(delegate);
+    }
+
+    private void recomputeState() {
+        sorted = true;
+        extremesValid = false;
+        for (int i = 1; i < delegate.size(); i++) {
+            if (delegate.get(i - 1).compareTo(delegate.get(i)) > 0) {
+                sorted = false;
+                break;
+            }
+        }
+    }
+
+    private void ensureExtremes() {
+        if (extremesValid) {
+            return;
+        }
+        if (delegate.isEmpty()) {
+            throw new IllegalStateException("Список порожній");
+        }
+        E minValue = delegate.get(0);
+        E maxValue = minValue;
+        for (E element : delegate) {
+            if (element.compareTo(minValue) < 0) {
+                minValue = element;
+            }
+            if (element.compareTo(maxValue) > 0) {
+                maxValue = element;
+            }
+        }
+        cachedMin = minValue;
+        cachedMax = maxValue;
+        extremesValid = true;
+    }
+
+    private void includeInExtremes(E element) {
+        if (!extremesValid) {
+            return;
+        }
+        if (element.compareTo(cachedMin) < 0) {
+            cachedMin = element;
+        }
+        if (element.compareTo(cachedMax) > 0) {
+            cachedMax = element;
+        }
+    }
+
+    private void excludeFromExtremes(E element) {
+        if (extremesValid && (element.compareTo(cachedMin) == 0 || element.compareTo(cachedMax) == 0)) {
+            extremesValid = false;
+        }
+    }
+}
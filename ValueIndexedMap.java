@@ -0,0 +1,148 @@
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Клас ValueIndexedMap — двонапрямлена обгортка над Map зі зворотним індексом значення → ключі.
+ *
+ * <p>Прямі пари зберігаються в переданій мапі (Hashtable, LinkedHashMap тощо), тож
+ * її порядок обходу і семантика null зберігаються. Поруч ведеться індекс
+ * «значення → множина ключів», який оновлюється в {@link #put(Object, Object)} і
+ * {@link #remove(Object)}. Тому пошук ключів за значенням, {@link #containsValue(Object)}
+ * і видалення всіх записів зі значенням коштують O(1) амортизовано на знайдений ключ,
+ * а не повний перегляд мапи.</p>
+ *
+ * <p>Змінювати мапу можна лише через цю обгортку: перегляди {@link #entrySet()},
+ * {@link #keySet()} і {@link #values()} лише для читання, щоб індекс не розійшовся з даними.</p>
+ *
+ * @param <K> Тип ключа
+ * @param <V> Тип значення
+ */
+public class ValueIndexedMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> forwardMap;
+    private final Map<K, V> readOnlyView;
+    private final Map<V, Set<K>> reverseIndex = new HashMap<>();
+
+    /**
+     * Конструктор, який бере мапу у володіння та індексує її поточні записи.
+     *
+     * @param forwardMap Мапа ключ → значення (далі змінюється лише через обгортку)
+     */
+    public ValueIndexedMap(Map<K, V> forwardMap) {
+        this.forwardMap = forwardMap;
+        this.readOnlyView = Collections.unmodifiableMap(forwardMap);
+        for (Map.Entry<K, V> entry : forwardMap.entrySet()) {
+            indexKey(entry.getValue(), entry.getKey());
+        }
+    }
+
+    @Override
+    public int size() {
+        return forwardMap.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return forwardMap.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return forwardMap.get(key);
+    }
+
+    /**
+     * Перевіряє наявність значення через зворотний індекс за O(1).
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        return reverseIndex.containsKey(value);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        boolean existed = forwardMap.containsKey(key);
+        V previous = forwardMap.put(key, value);
+        if (existed) {
+            if (Objects.equals(previous, value)) {
+                return previous;
+            }
+            unindexKey(previous, key);
+        }
+        indexKey(value, key);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!forwardMap.containsKey(key)) {
+            return null;
+        }
+        V previous = forwardMap.remove(key);
+        unindexKey(previous, key);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        forwardMap.clear();
+        reverseIndex.clear();
+    }
+
+    /**
+     * Повертає всі ключі із заданим значенням у порядку їх додавання.
+     *
+     * @param value Значення
+     * @return Незмінна множина ключів (порожня, якщо значення відсутнє)
+     */
+    public Set<K> keysForValue(V value) {
+        Set<K> keys = reverseIndex.get(value);
+        return keys == null ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Видаляє всі записи із заданим значенням.
+     *
+     * @param value Значення
+     * @return Кількість видалених записів
+     */
+    public int removeByValue(V value) {
+        Set<K> keys = reverseIndex.remove(value);
+        if (keys == null) {
+            return 0;
+        }
+        for (K key : keys) {
+            forwardMap.remove(key);
+        }
+        return keys.size();
+    }
+
+    /**
+     * Кількість різних значень у мапі.
+     *
+     * @return Розмір зворотного індексу
+     */
+    public int distinctValueCount() {
+        return reverseIndex.size();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return readOnlyView.entrySet();
+    }
+
+    private void indexKey(V value, K key) {
+        reverseIndex.computeIfAbsent(value, ignored -> new LinkedHashSet<>()).add(key);
+    }
+
+    private void unindexKey(V value, Object key) {
+        Set<K> keys = reverseIndex.get(value);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            reverseIndex.remove(value);
+        }
+    }
+}